@@ -0,0 +1,222 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAConcurrentHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     A Hash Table that can be read and changed from several threads at once.
+ * The table is split into stripes, each stripe is a DSAHashTable with its own lock and a key
+ * always goes to the same stripe (chosen from the hash of the key). Each operation only locks
+ * the stripe of its key, so threads working on keys in different stripes do not wait for each other.
+ * Each operation is atomic on its own, but two operations in a row (e.g hasKey() then get())
+ * may see the key added or removed by another thread in between.
+ * Only the index itself is safe to share: the values stored in it, and anything kept in sync with
+ * it (e.g a list of the same items), still need their own locking. The Network changes its people
+ * on one thread only, so its name index is a plain DSAHashTable.
+ */
+
+import java.io.Serializable;
+
+public class DSAConcurrentHashTable implements Serializable
+{
+    public static final int DEFAULT_STRIPES = 16;  // The default number of stripes (a power of two)
+    public static final int MAX_STRIPES = 1 << 16;  // The stripe is picked with the top 16 bits of the hash
+
+    private DSAHashTable[] stripes;  // The stripes, each one is also used as its own lock
+    private int mask;  // The number of stripes - 1, used to pick the stripe of a key
+
+    /**
+     * Default constructor.
+     * Creates a table with the default number of stripes.
+     */
+    public DSAConcurrentHashTable()
+    {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates a table with the given number of stripes (rounded up to a power of two).
+     * More stripes let more threads change the table at the same time.
+     *
+     * @param stripeNum - The number of stripes
+     */
+    public DSAConcurrentHashTable(int stripeNum)
+    {
+        if (stripeNum < 1 || stripeNum > MAX_STRIPES)
+        {
+            throw new IllegalArgumentException("Invalid number of stripes.");
+        }
+
+        int size = 1;
+        while (size < stripeNum)
+        {
+            size *= 2;
+        }
+
+        stripes = new DSAHashTable[size];
+        for (int i = 0; i < size; i++)
+        {
+            stripes[i] = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "DSAConcurrentHashTable stripes");
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Checks if the table is empty or not.
+     * Each stripe is checked in turn, so the answer may be out of date if other threads are changing the table.
+     *
+     * @return - True if the table is empty or False otherwise
+     */
+    public boolean isEmpty()
+    {
+        boolean empty = true;
+        for (int i = 0; i < stripes.length && empty; i++)
+        {
+            synchronized (stripes[i])
+            {
+                empty = stripes[i].isEmpty();
+            }
+        }
+
+        return empty;
+    }
+
+    /**
+     * Checks if the item with the given key is in the table
+     *
+     * @param key - The given key used to check
+     * @return - true if the key is in the table or false otherwise
+     */
+    public boolean hasKey(String key)
+    {
+        DSAHashTable stripe = stripeOf(key);
+        synchronized (stripe)
+        {
+            return stripe.hasKey(key);
+        }
+    }
+
+    /**
+     * Puts a new item with the given key into the table.
+     * If the key is already in the table, throws an exception.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     */
+    public void put(String inKey, Object inValue)
+    {
+        DSAHashTable stripe = stripeOf(inKey);
+        synchronized (stripe)
+        {
+            stripe.put(inKey, inValue);
+        }
+    }
+
+    /**
+     * Puts a new item with the given key into the table if the key is not in the table yet.
+     * Checking and putting is done under one lock, so two threads putting the same key cannot both succeed.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     * @return - The value already stored with the key, or null if the new item was put into the table
+     */
+    public Object putIfAbsent(String inKey, Object inValue)
+    {
+        DSAHashTable stripe = stripeOf(inKey);
+        synchronized (stripe)
+        {
+            return stripe.putIfAbsent(inKey, inValue);
+        }
+    }
+
+    /**
+     * Get an item with the given key from the table, or null if the key is not in the table.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table or null otherwise
+     */
+    public Object getOrNull(String key)
+    {
+        DSAHashTable stripe = stripeOf(key);
+        synchronized (stripe)
+        {
+            return stripe.getOrNull(key);
+        }
+    }
+
+    /**
+     * Get an item with the given key from the table without removing it from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table
+     */
+    public Object get(String key)
+    {
+        DSAHashTable stripe = stripeOf(key);
+        synchronized (stripe)
+        {
+            return stripe.get(key);
+        }
+    }
+
+    /**
+     * Removes an item associate with the given key from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key of the item.
+     */
+    public void removeKey(String key)
+    {
+        DSAHashTable stripe = stripeOf(key);
+        synchronized (stripe)
+        {
+            stripe.removeKey(key);
+        }
+    }
+
+    /**
+     * Returns all the values stored in the table as a LinkedList.
+     * Each stripe is copied in turn, so the values added or removed by other threads in the
+     * meantime may or may not be in the list.
+     * If the table is empty, throws an exception.
+     *
+     * @return - The list containing all the values of the table
+     */
+    public DSALinkedList values()
+    {
+        DSALinkedList list = new DSALinkedList();
+        for (int i = 0; i < stripes.length; i++)
+        {
+            synchronized (stripes[i])
+            {
+                for (Object item : stripes[i])
+                {
+                    list.insertLast(item);
+                }
+            }
+        }
+
+        if (list.isEmpty())
+        {
+            throw new IllegalArgumentException("Hash Table is empty.");
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns the stripe of the given key.
+     * The bits are taken from the top of the hash, the stripe tables use the bottom bits.
+     */
+    private DSAHashTable stripeOf(String key)
+    {
+        if (key == null)
+        {
+            throw new IllegalArgumentException("Null key in table.");
+        }
+
+        int h = key.hashCode() * 0x9E3779B9;
+        return stripes[(h >>> 16) & mask];
+    }
+}
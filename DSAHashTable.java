@@ -2,9 +2,25 @@
  * Author:      Khoa Nam Pham
  * StudentID:   19305875
  * File name:   DSAHashTable.java
- * Date modified: 22/10/2019
- * Purpose:     Implementation of the Hash Table ADT using double hashing method
+ * Date modified: 18/10/2026
+ * Purpose:     Implementation of the Hash Table ADT using open addressing with linear probing
  * to handle collision.
+ * The entries are not objects, they are spread over parallel arrays (keys, values, hashes and states)
+ * so a probe sequence walks neighbouring slots of a few flat arrays instead of jumping between objects.
+ * The hash of each key is worked out once (from String.hashCode(), which the String caches), mixed so
+ * that the low bits are well spread, and stored next to the key so most probes never call equals().
+ * The table size is always a power of two, so the index is a bit mask and the table doubles when it grows.
+ * The table can be iterated directly (over its values) without copying them to a list first.
+ * Removed entries leave FORMERLY_USED slots behind that make the probe sequences longer, when there are
+ * too many of them they are cleared by re-placing the entries in place (without new arrays).
+ * A table that is going to hold a known number of entries can be made (or grown) at the right size in one go
+ * with withExpectedEntries()/ensureCapacity(), instead of doubling several times while it is filled.
+ * putIfAbsent() and getOrNull() find the key (or the slot for it) with one probe sequence and do not
+ * throw when the key is (or is not) in the table, for the places where that is the normal case.
+ * The table doubles when it is more than 60% full and shrinks when it is less than 12.5% full, and both leave
+ * the table about 30% full, so adding and removing around one size does not keep resizing the table.
+ * The states of the slots, the probe sequences, resizing and clearing are shared with the other hash
+ * tables in DSASlotTable, this class keeps the String keys, the values and the hashes.
  * <p>
  * NOTE:    This class is a REUSED class from the Practical 6.
  * However there are some additional methods in this class such as:
@@ -12,48 +28,70 @@
  * - isEmpty()
  */
 
-import java.io.Serializable;
+import java.util.Iterator;
 
-public class DSAHashTable implements Serializable
+public class DSAHashTable extends DSASlotTable implements Iterable
 {
-    public static final int DEFAULT_TABLE_SIZE = 7;  // The default table size if no table size specified
-    public static final int MAX_STEP = 5;   // The maximum step in probing
+    public static final int DEFAULT_TABLE_SIZE = 8;  // The default table size if no table size specified
+    public static final int MAX_TABLE_SIZE = 1 << 30;  // The largest power of two an array can hold
     public static final double MAX_LOAD_FACTOR = 0.6; // The maximum load factor to maintain the performance
-    public static final double MIN_LOAD_FACTOR = 0.25;  // The minimum load factor to avoid wasting space
+    public static final double MIN_LOAD_FACTOR = 0.125;  // The minimum load factor to avoid wasting space
+    public static final double TARGET_LOAD_FACTOR = 0.3;  // The highest load factor after shrinking
+    public static final double MAX_FORMERLY_USED = 0.25;  // The fraction of removed slots allowed before clearing them
 
-    private DSAHashEntry[] hashArray;  // The table
-    private int count;   // The number of entries so far
+    private String[] keys;    // The key in each slot
+    private Object[] values;  // The value in each slot
+    private int[] hashes;     // The mixed hash of the key in each slot
 
     /**
      * Alternate constructor.
      * Creates a HashTable with a given table size.
+     * The actual size is the next power of two.
      *
      * @param tableSize - The initial size for the table
      */
     public DSAHashTable(int tableSize)
     {
-        // The table must have at least 1 element
-        if (tableSize < 1)
-        {
-            throw new IllegalArgumentException("Invalid table size.");
-        }
+        this(tableSize, "DSAHashTable (other)");
+    }
 
-        int actualSize = nextPrime(tableSize);  // Make sure the table size is prime number
-        hashArray = new DSAHashEntry[actualSize];
-        for (int i = 0; i < actualSize; i++)
-        {
-            hashArray[i] = new DSAHashEntry();
-        }
+    /**
+     * Alternate constructor.
+     * Creates a HashTable with a given table size, whose statistics are kept under the given role.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     * @param inRole    - What the table is used for (e.g. "Person posts"), for the statistics
+     */
+    public DSAHashTable(int tableSize, String inRole)
+    {
+        super(tableSize, inRole);
+        keys = new String[getTableSize()];
+        values = new Object[getTableSize()];
+        hashes = new int[getTableSize()];
+    }
 
-        count = 0;
+    /**
+     * Creates a table that can hold the given number of entries without growing.
+     *
+     * @param expectedEntries - The number of entries the table is going to hold
+     * @return - The new table
+     */
+    public static DSAHashTable withExpectedEntries(int expectedEntries)
+    {
+        return new DSAHashTable(tableSizeFor(expectedEntries));
     }
 
     /**
-     * Computes and returns the load factor
+     * Returns the smallest table size (a power of two) that holds the given number of entries
+     * without going over the maximum load factor.
+     *
+     * @param expectedEntries - The number of entries
+     * @return - The table size
      */
-    public double getLoadFactor()
+    public static int tableSizeFor(int expectedEntries)
     {
-        return (double) count / (double) hashArray.length;
+        return DSATablePolicy.tableSizeFor(expectedEntries);
     }
 
     /**
@@ -72,11 +110,11 @@ public class DSAHashTable implements Serializable
         DSALinkedList list = new DSALinkedList();
 
         // Iterate through the table and insert each item to the list
-        for (int i = 0; i < hashArray.length; i++)
+        for (int i = 0; i < values.length; i++)
         {
-            if (hashArray[i].state == DSAHashEntry.USED)
+            if (isUsed(i))
             {
-                list.insertLast(hashArray[i].value);
+                list.insertLast(values[i]);
             }
         }
 
@@ -84,13 +122,15 @@ public class DSAHashTable implements Serializable
     }
 
     /**
-     * Checks if the table is empty or not
+     * Returns an iterator that walks through the values stored in the table, straight over the slots
+     * of the table (nothing is copied). The table must not be changed while it is being iterated,
+     * use values() to get a copy if it needs changing.
      *
-     * @return - True if the table is empty or False otherwise
+     * @return - The iterator
      */
-    public boolean isEmpty()
+    public Iterator iterator()
     {
-        return count == 0;
+        return new DSASlotIterator();
     }
 
     /**
@@ -101,7 +141,7 @@ public class DSAHashTable implements Serializable
      */
     public boolean hasKey(String key)
     {
-        int position = findKey(key);
+        int position = findKey(hash(key), 0, key);
         return position != -1;
     }
 
@@ -118,14 +158,66 @@ public class DSAHashTable implements Serializable
             throw new IllegalArgumentException("Null key adding to table.");
         }
 
+        int keyHash = hash(inKey);
+        int position = probe(keyHash, 0, inKey);
+
         // If the key is already in the table
-        if (hasKey(inKey))
+        if (position >= 0)
         {
             throw new IllegalArgumentException("Key is already in the table");
         }
 
-        DSAHashEntry entry = new DSAHashEntry(inKey, inValue);
-        put(entry);
+        fill(takeProbedSlot(position), inKey, inValue, keyHash);
+        afterPut();
+    }
+
+    /**
+     * Puts a new item with the given key into the table if the key is not in the table yet.
+     * Finding the key and the slot for the new item takes only one probe sequence.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     * @return - The value already stored with the key, or null if the new item was put into the table
+     */
+    public Object putIfAbsent(String inKey, Object inValue)
+    {
+        if (inKey == null)
+        {
+            throw new IllegalArgumentException("Null key adding to table.");
+        }
+
+        Object existing = null;
+        int keyHash = hash(inKey);
+        int position = probe(keyHash, 0, inKey);
+
+        if (position >= 0)
+        {
+            existing = values[position];
+        }
+        else
+        {
+            fill(takeProbedSlot(position), inKey, inValue, keyHash);
+            afterPut();
+        }
+
+        return existing;
+    }
+
+    /**
+     * Get an item with the given key from the table, or null if the key is not in the table.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table or null otherwise
+     */
+    public Object getOrNull(String key)
+    {
+        if (key == null)
+        {
+            throw new IllegalArgumentException("Cannot search null Key");
+        }
+
+        int position = findKey(hash(key), 0, key);
+        return (position == -1) ? null : values[position];
     }
 
     /**
@@ -133,12 +225,11 @@ public class DSAHashTable implements Serializable
      */
     public void display()
     {
-        for (int i = 0; i < hashArray.length; i++)
+        for (int i = 0; i < keys.length; i++)
         {
-            DSAHashEntry entry = hashArray[i];
-            if (entry.state == DSAHashEntry.USED)
+            if (isUsed(i))
             {
-                System.out.println(entry.key + " - " + entry.value.toString());
+                System.out.println(keys[i] + " - " + values[i].toString());
             }
         }
     }
@@ -158,20 +249,15 @@ public class DSAHashTable implements Serializable
             throw new IllegalArgumentException("Cannot search null Key");
         }
 
-        Object value;
-        int position = findKey(key); // Position of the key in the table
+        int position = findKey(hash(key), 0, key); // Position of the key in the table
 
         // If not found
         if (position == -1)
         {
             throw new IllegalArgumentException("Key not found in the table");
         }
-        else
-        {
-            value = hashArray[position].value;
-        }
 
-        return value;
+        return values[position];
     }
 
     /**
@@ -187,7 +273,7 @@ public class DSAHashTable implements Serializable
             throw new IllegalArgumentException("Cannot remove null key");
         }
 
-        int position = findKey(key); // Position of the key in the table
+        int position = findKey(hash(key), 0, key); // Position of the key in the table
 
         // If not found in the table
         if (position == -1)
@@ -195,24 +281,11 @@ public class DSAHashTable implements Serializable
             throw new IllegalArgumentException("Key not found in the table");
         }
 
-        DSAHashEntry entry = hashArray[position];
-        // Remove the hash entry, have to set the state to FOMERLY_USED
-        entry.state = DSAHashEntry.FORMERLY_USED;
-        count--;
-
-        // If the load factor is too low
-        if (hashArray.length > DEFAULT_TABLE_SIZE && getLoadFactor() < MIN_LOAD_FACTOR)
-        {
-            int newSize = previousPrime(hashArray.length);
-            double newLoadFactor = (double) count / (double) newSize;
-            while (count != 0 && newLoadFactor < MIN_LOAD_FACTOR)
-            {
-                newSize = previousPrime(newSize);
-                newLoadFactor = (double) count / (double) newSize;
-            }
-
-            resize(newSize);
-        }
+        // Remove the entry, the slot is left behind so the probe sequences going through it are not broken
+        keys[position] = null;
+        values[position] = null;
+        releaseSlot(position);
+        afterRemove();
     }
 
     /**
@@ -224,259 +297,78 @@ public class DSAHashTable implements Serializable
     public String toString()
     {
         String str = "";
-        for (int i = 0; i < hashArray.length; i++)
+        for (int i = 0; i < keys.length; i++)
         {
-            DSAHashEntry entry = hashArray[i];
-            if (entry.state == DSAHashEntry.USED)
+            if (isUsed(i))
             {
-                str += entry.key + "," + entry.value.toString() + "\n";
+                str += keys[i] + "," + values[i].toString() + "\n";
             }
         }
 
         return str;
     }
 
-    /**
-     * Inserts a new entry to the table.
-     *
-     * @param entry - The entry to be inserted
-     */
-    private void put(DSAHashEntry entry)
+    // Puts an entry into a slot taken for it
+    private void fill(int slot, String key, Object value, int keyHash)
     {
-        // If the table is already full
-        if (count == hashArray.length)
-        {
-            throw new IllegalArgumentException("Table is full");
-        }
-
-        String key = entry.key;
-        int hashIndex = hash(key);  // The index
-        int step = stepHash(key);  // The step to resolve collision
-
-        // Keep probing until getting to an empty entry
-        while (hashArray[hashIndex].state == DSAHashEntry.USED)
-        {
-            hashIndex += step;
-            hashIndex = hashIndex % hashArray.length;
-        }
-
-        hashArray[hashIndex] = entry;
-        count++;
-
-        // If exceed maximum allowed load factor, double the size
-        if (getLoadFactor() > MAX_LOAD_FACTOR)
-        {
-            int newSize = nextPrime(hashArray.length);
-            while ((double) count / (double) newSize > MAX_LOAD_FACTOR)
-            {
-                newSize = nextPrime(newSize);
-            }
-            resize(newSize);
-        }
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = keyHash;
     }
 
     /**
-     * Base on the given key, computes and returns the position of that key
-     * in the table.
-     * If the key is not found in the table, returns -1
-     *
-     * @param key - The given key used to search for the item
-     * @return - The index of the key in the table or -1 if the key is not in the table
+     * Base on the given key, computes and returns the mixed hash.
+     * The high bits of String.hashCode() are mixed into the low bits that the mask keeps,
+     * so keys that only differ at the end do not end up next to each other.
      */
-    private int findKey(String key)
+    private static int hash(String inKey)
     {
-        int hashIndex = hash(key); // hash the key
-        int step = stepHash(key);
-        boolean found = false;   // found or not?
-        int result = -1;    // the index of the key in the hash table if found
-        DSAHashEntry entry = hashArray[hashIndex];   // The current entry
-
-        // Keep searching until found the key or reach to a never used entry
-        while (!found && entry.state != DSAHashEntry.NEVER_USED)
-        {
-            // If found
-            if (entry.key.equals(key) && entry.state == DSAHashEntry.USED)
-            {
-                found = true;
-                result = hashIndex;
-            }
-            // else jump to the next entry
-            else
-            {
-                hashIndex = (hashIndex + step) % hashArray.length;
-                entry = hashArray[hashIndex];
-            }
-        }
-
-        return result;
+        int h = inKey.hashCode();
+        h ^= h >>> 16;
+        h *= 0x9E3779B9;  // The golden ratio, spreads the bits over the whole int
+        h ^= h >>> 16;
+        return h;
     }
 
-    /**
-     * Base on the given key, computes and returns the hash index
-     */
-    private int hash(String inKey)
+    // Comparing the stored hashes first skips almost all the keys that are not equal
+    protected boolean matches(int slot, int intKey, Object objKey, int keyHash)
     {
-        long hashIndex = 0;
-        for (int i = 0; i < inKey.length(); i++)
-        {
-            // The number 11 is used hear to avoid integer overflow
-            hashIndex = (11 * hashIndex) + inKey.charAt(i);
-        }
-
-        return (int) (hashIndex % hashArray.length);
-    }
-
-    /**
-     * Base on the given key, computes and return the hash step.
-     * This hash step is used in double hashing to handle collision.
-     */
-    private int stepHash(String inKey)
-    {
-        int hashIndex = hash(inKey);
-        return MAX_STEP - (hashIndex % MAX_STEP);
+        return hashes[slot] == keyHash && keys[slot].equals(objKey);
     }
 
-    /**
-     * Finds the next prime number of the given number
-     */
-    private int nextPrime(int number)
+    // The stored hashes are reused, so no key is hashed again when the entries are moved
+    protected int hashAt(int slot)
     {
-        int primeVal;  // The next prime number
-
-        // If the given number is even, decrease it by 1
-        // so that we could check the next odd value after (in the do-while loop)
-        if (number % 2 == 0)
-        {
-            primeVal = number - 1;
-        }
-        else
-        {
-            primeVal = number;
-        }
-
-        boolean isPrime = false;
-        do
-        {
-            primeVal += 2;  // The next odd number
-            isPrime = true;
-            int i = 3;
-            double rootVal = Math.sqrt(primeVal);  // No need to check values above the square root
-
-            // Check for every odd number below the current odd number
-            while (isPrime && i <= rootVal)
-            {
-                if (primeVal % i == 0)
-                {
-                    isPrime = false;
-                }
-                else
-                {
-                    i += 2;  // No need to check for the even numbers
-                }
-            }
-        }
-        while (!isPrime);
-
-        return primeVal;
+        return hashes[slot];
     }
 
-    /*
-     * Find the previous prime number of the given number
-     */
-    private int previousPrime(int number)
+    protected void moveEntry(int from, int to)
     {
-        int primeVal;  // The previous prime number
-
-        // If the given number is even, increase it by 1
-        // so that we could check the previous odd value after (in the do-while loop)
-        if (number % 2 == 0)
-        {
-            primeVal = number + 1;
-        }
-        else
-        {
-            primeVal = number;
-        }
-
-        boolean isPrime = false;
-        do
-        {
-            primeVal -= 2;  // The previous odd number
-            isPrime = true;
-            int i = 3;
-            double rootVal = Math.sqrt(primeVal);  // No need to check values above the square root
-
-            // Check for every odd number below the current odd number
-            while (isPrime && i <= rootVal)
-            {
-                if (primeVal % i == 0)
-                {
-                    isPrime = false;
-                }
-                else
-                {
-                    i += 2;  // No need to check for the even numbers
-                }
-            }
-        }
-        while (!isPrime);
-
-        return primeVal;
+        fill(to, keys[from], values[from], hashes[from]);
+        keys[from] = null;
+        values[from] = null;
     }
 
-    /**
-     * Resize the hash array if the load factor is too high or too low
-     */
-    private void resize(int newSize)
+    protected void moveEntries(byte[] oldStates, int newSize)
     {
-        DSAHashEntry[] temp = hashArray;
-        // Reset everything
-        this.hashArray = new DSAHashEntry[newSize];
-        this.count = 0;
-
-        for (int i = 0; i < newSize; i++)
-        {
-            hashArray[i] = new DSAHashEntry();
-        }
-
-        // Re-hash every entry to the new table
-        for (int i = 0; i < temp.length; i++)
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        keys = new String[newSize];
+        values = new Object[newSize];
+        hashes = new int[newSize];
+
+        for (int i = 0; i < oldStates.length; i++)
         {
-            if (temp[i].state == DSAHashEntry.USED)
+            if (oldStates[i] == USED)
             {
-                put(temp[i]);
+                fill(takeFreeSlot(oldHashes[i]), oldKeys[i], oldValues[i], oldHashes[i]);
             }
         }
     }
 
-    /**
-     * Private class representing entries in the hash table
-     */
-    private class DSAHashEntry implements Serializable
+    protected Object valueAt(int slot)
     {
-        /**
-         * ALl the states that an entry can have
-         */
-        public static final int NEVER_USED = 0;
-        public static final int USED = 1;
-        public static final int FORMERLY_USED = -1;
-
-        private String key;
-        private Object value;
-        private int state;
-
-        public DSAHashEntry()
-        {
-            key = "";
-            value = null;
-            state = NEVER_USED;
-        }
-
-        public DSAHashEntry(String inKey, Object inValue)
-        {
-            key = inKey;
-            value = inValue;
-            state = USED;
-        }
+        return values[slot];
     }
 }
@@ -2,8 +2,13 @@
  * Author:      Khoa Nam Pham
  * StudentID:   19305875
  * File name:   DSAHeap.java
- * Date modified: 19/10/2019
+ * Date modified: 18/10/2026
  * Purpose:     The implementation of the Heap ADT.
+ * The heap is d-ary (each item has up to "arity" children, 2 by default) and is stored as two
+ * parallel arrays (the priorities and the values), so no entry object is made per item.
+ * Trickling up and down are loops that move the item along a hole instead of swapping at every level.
+ * A heap can either have a fixed maximum size (adding to a full heap throws an exception) or grow
+ * by doubling when it is full. buildFrom() puts many items in at once and heapifies them in O(N).
  * NOTE:  This class is a REUSED class from the Practical 7
  */
 
@@ -11,8 +16,23 @@ import java.io.Serializable;
 
 public class DSAHeap implements Serializable
 {
-    private DSAHeapEntry[] heap;  // The heap array to store the data
+    public static final int DEFAULT_CAPACITY = 16;  // The starting size of a growable heap
+    public static final int DEFAULT_ARITY = 2;  // The number of children of each item by default
+
+    private int[] priorities;  // The priority of each item in the heap
+    private Object[] values;   // The items in the heap
     private int count;  // The number of elements stored
+    private int arity;  // The number of children of each item
+    private boolean growable;  // Grow when full (true) or throw an exception (false)
+
+    /**
+     * Default constructor.
+     * Construct an empty binary heap that grows when it is full.
+     */
+    public DSAHeap()
+    {
+        this(DEFAULT_CAPACITY, DEFAULT_ARITY, true);
+    }
 
     /**
      * Alternate constructor.
@@ -22,8 +42,35 @@ public class DSAHeap implements Serializable
      */
     public DSAHeap(int maxSize)
     {
+        this(maxSize, DEFAULT_ARITY, false);
+    }
+
+    /**
+     * Alternate constructor.
+     * Construct the heap with the given size, number of children of each item and
+     * whether it grows when full or not.
+     *
+     * @param size       - The maximum size of the heap (or the starting size if it can grow)
+     * @param inArity    - The number of children of each item (at least 2)
+     * @param inGrowable - True if the heap grows when full, false if adding to a full heap throws an exception
+     */
+    public DSAHeap(int size, int inArity, boolean inGrowable)
+    {
+        if (size < 0)
+        {
+            throw new IllegalArgumentException("Invalid size for the heap.");
+        }
+
+        if (inArity < 2)
+        {
+            throw new IllegalArgumentException("Each item of the heap must be able to have at least 2 children.");
+        }
+
+        priorities = new int[size];
+        values = new Object[size];
         count = 0;
-        heap = new DSAHeapEntry[maxSize];
+        arity = inArity;
+        growable = inGrowable;
     }
 
     /**
@@ -35,17 +82,57 @@ public class DSAHeap implements Serializable
      */
     public void add(int priority, Object value)
     {
-        // If the heap is full
-        if (count == heap.length)
+        // If the heap is full, grow it or stop
+        if (count == values.length)
         {
-            throw new IllegalArgumentException("The heap is already full.");
+            if (!growable)
+            {
+                throw new IllegalArgumentException("The heap is already full.");
+            }
+            resize(Math.max(DEFAULT_CAPACITY, values.length * 2));
         }
 
-        DSAHeapEntry newEntry = new DSAHeapEntry(priority, value);
-        // Add the new entry to the end of the heap and trickle it up
-        heap[count] = newEntry;
-        trickleUp(count);  // Place it in the right position
+        // Add the new item to the end of the heap and trickle it up
         count++;
+        trickleUp(count - 1, priority, value);  // Place it in the right position
+    }
+
+    /**
+     * Replaces the content of the heap with the given items.
+     * The items are put into the array as they are and then heapified from the bottom up,
+     * which takes O(N) instead of the O(N log N) of adding them one by one.
+     *
+     * @param inPriorities - The priorities of the items
+     * @param inValues     - The items, inValues[i] has the priority inPriorities[i]
+     * @param num          - The number of items to take from the start of the arrays
+     */
+    public void buildFrom(int[] inPriorities, Object[] inValues, int num)
+    {
+        if (num < 0 || num > inPriorities.length || num > inValues.length)
+        {
+            throw new IllegalArgumentException("Invalid number of items for the heap.");
+        }
+
+        if (num > values.length)
+        {
+            if (!growable)
+            {
+                throw new IllegalArgumentException("The heap is already full.");
+            }
+            priorities = new int[num];
+            values = new Object[num];
+        }
+
+        // Let the items that are no longer in the heap be garbage collected
+        for (int i = num; i < count; i++)
+        {
+            values[i] = null;
+        }
+
+        System.arraycopy(inPriorities, 0, priorities, 0, num);
+        System.arraycopy(inValues, 0, values, 0, num);
+        count = num;
+        heapify();
     }
 
     /**
@@ -62,24 +149,30 @@ public class DSAHeap implements Serializable
             throw new IllegalArgumentException("The heap is empty.");
         }
 
-        Object temp = heap[0].value;  // The item to be taken out
-        // Swap the top item with the lowest level item
-        // Then move the new top item to the right position
-        swap(0, count - 1);
+        Object temp = values[0];  // The item to be taken out
+        // Take out the lowest level item
+        // Then move it down from the top to the right position
         count--;
-        trickleDown(0);
+        int lastPriority = priorities[count];
+        Object lastValue = values[count];
+        values[count] = null;
+        if (count > 0)
+        {
+            trickleDown(0, lastPriority, lastValue);
+        }
 
         return temp;
     }
 
     /**
      * Sorts an integer array using a heap
+     * The array is sorted in place by DSAIntHeap, the content of this heap is not changed.
      *
      * @param arr - The array that needs to be sorted
      */
     public void sort(int[] arr)
     {
-        heapSort(arr);
+        DSAIntHeap.sort(arr);
     }
 
     /**
@@ -94,115 +187,102 @@ public class DSAHeap implements Serializable
 
     /**
      * Checks if the heap is full or not
+     * A heap that grows is never full.
      *
      * @return - true if the heap is full or false otherwise
      */
     public boolean isFull()
     {
-        return count == heap.length;
+        return !growable && count == values.length;
     }
 
     /**
-     * Converts the integer array to be sorted to an HeapEntry array
-     * (so that it can be used in the heap)
+     * Get the number of items in the heap
      *
-     * @param arr - The integer array
-     * @return - The HashEntry version of the given integer array
+     * @return - The number of items
      */
-    private DSAHeapEntry[] convertToHashEntry(int[] arr)
+    public int count()
     {
-        DSAHeapEntry[] entries = new DSAHeapEntry[arr.length];
-        for (int i = 0; i < arr.length; i++)
-        {
-            entries[i] = new DSAHeapEntry(arr[i], arr[i]);
-        }
-
-        return entries;
+        return count;
     }
 
-    /**
-     * Heapify an integer array
-     *
-     * @param arr - The integer array to be heapified
-     */
-    private void heapify(int[] arr)
+    // Heapify the items in the array from the last parent up to the top
+    private void heapify()
     {
-        this.heap = convertToHashEntry(arr);
-        this.count = arr.length;
-        for (int i = arr.length / 2 - 1; i >= 0; i--)
+        for (int i = (count - 2) / arity; i >= 0; i--)
         {
-            trickleDown(i);
+            trickleDown(i, priorities[i], values[i]);
         }
     }
 
     /**
-     * Sort an integer array using heap sort
-     *
-     * @param arr - The integer array to be sorted
+     * Trickle up an item starting at the given index.
+     * The parents with lower priority are moved down into the hole until the right position is found.
      */
-    private void heapSort(int[] arr)
-    {
-        int temp = count;
-        heapify(arr);
-
-        for (int i = heap.length - 1; i >= 0; i--)
-        {
-            swap(i, 0);
-            count--;
-            trickleDown(0);
-        }
-
-        count = temp;
-
-        for (int i = 0; i < arr.length; i++)
-        {
-            arr[i] = (int) heap[i].value;
-        }
-    }
-
-    // Trickle up item at a given index
-    private void trickleUp(int index)
+    private void trickleUp(int index, int priority, Object value)
     {
-        if (index > 0)
+        while (index > 0)
         {
-            int parent = (index - 1) / 2;
-            if (less(heap[parent], heap[index]))
+            int parent = (index - 1) / arity;
+            if (priorities[parent] >= priority)
             {
-                swap(parent, index);
+                break;
             }
-            trickleUp(parent);
+
+            priorities[index] = priorities[parent];
+            values[index] = values[parent];
+            index = parent;
         }
+
+        priorities[index] = priority;
+        values[index] = value;
     }
 
-    // Trickle down item at a given index
-    private void trickleDown(int index)
+    /**
+     * Trickle down an item starting at the given index.
+     * The largest child is moved up into the hole while it has higher priority than the item.
+     */
+    private void trickleDown(int index, int priority, Object value)
     {
-        if (index < count)
+        int firstChild = index * arity + 1;
+        while (firstChild < count)
         {
-            int leftChild = index * 2 + 1;
-            int largeChild = leftChild;
-
-            // If there is a left child
-            if (leftChild < count)
+            // Choose the largest child among the children of the hole
+            int lastChild = Math.min(firstChild + arity, count);
+            int largeChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++)
             {
-                // If there is a right child
-                int rightChild = index * 2 + 2;
-                // Choose the larger child between the 2 children node
-                if (rightChild < count && less(heap[leftChild], heap[rightChild]))
+                if (priorities[child] > priorities[largeChild])
                 {
-                    largeChild = rightChild;
-                }
-
-                // If the larger child is also larger than the parent, swap them
-                if (less(heap[index], heap[largeChild]))
-                {
-                    swap(index, largeChild);
+                    largeChild = child;
                 }
+            }
 
-                // Keep going down the tree
-                trickleDown(largeChild);
+            // If the largest child is not larger than the item, the item goes here
+            if (priorities[largeChild] <= priority)
+            {
+                break;
             }
+
+            priorities[index] = priorities[largeChild];
+            values[index] = values[largeChild];
+            index = largeChild;
+            firstChild = index * arity + 1;
         }
+
+        priorities[index] = priority;
+        values[index] = value;
+    }
+
+    // Moves the items to bigger arrays
+    private void resize(int newSize)
+    {
+        int[] newPriorities = new int[newSize];
+        Object[] newValues = new Object[newSize];
+        System.arraycopy(priorities, 0, newPriorities, 0, count);
+        System.arraycopy(values, 0, newValues, 0, count);
+        priorities = newPriorities;
+        values = newValues;
     }
 
     // String representation of the heap
@@ -211,41 +291,9 @@ public class DSAHeap implements Serializable
         String str = "";
         for (int i = 0; i < count; i++)
         {
-            str += "[" + i + "] " + heap[i].priority + " - " + heap[i].value.toString() + "\n";
+            str += "[" + i + "] " + priorities[i] + " - " + values[i].toString() + "\n";
         }
 
         return str;
     }
-
-    // Compare to entry
-    private boolean less(DSAHeapEntry h1, DSAHeapEntry h2)
-    {
-        boolean less = false;
-        less = h1.priority < h2.priority;
-
-        return less;
-    }
-
-    // Swaps 2 entry at 2 position in the array
-    private void swap(int i, int j)
-    {
-        DSAHeapEntry temp = heap[i];
-        heap[i] = heap[j];
-        heap[j] = temp;
-    }
-
-    /**
-     * The implementation of the HeapEntry
-     */
-    private class DSAHeapEntry implements Serializable
-    {
-        private int priority;
-        Object value;
-
-        public DSAHeapEntry(int priority, Object value)
-        {
-            this.priority = priority;
-            this.value = value;
-        }
-    }
 }
@@ -0,0 +1,314 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAIndexedHeap.java
+ * Date modified: 18/10/2026
+ * Purpose:     A heap (d-ary, highest priority at the top) where the priority of an item can be
+ * changed after it has been added. Each item added gets a handle, the handle remembers where the
+ * item is in the heap array, so the item can be found straight away to increase/decrease its
+ * priority or to remove it, all in O(log N). The heap grows when it is full.
+ * The handle stays the same for as long as the item is in the heap.
+ */
+
+import java.io.Serializable;
+
+public class DSAIndexedHeap implements Serializable
+{
+    private DSAIndexedHeapEntry[] heap;  // The heap array to store the items
+    private int count;  // The number of elements stored
+    private int arity;  // The number of children of each item
+
+    /**
+     * Default constructor.
+     * Construct an empty binary heap.
+     */
+    public DSAIndexedHeap()
+    {
+        this(DSAHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Alternate constructor.
+     * Construct an empty heap where each item has up to the given number of children.
+     *
+     * @param inArity - The number of children of each item (at least 2)
+     */
+    public DSAIndexedHeap(int inArity)
+    {
+        if (inArity < 2)
+        {
+            throw new IllegalArgumentException("Each item of the heap must be able to have at least 2 children.");
+        }
+
+        heap = new DSAIndexedHeapEntry[DSAHeap.DEFAULT_CAPACITY];
+        count = 0;
+        arity = inArity;
+    }
+
+    /**
+     * Checks if the heap is empty or not
+     *
+     * @return - true if the heap is empty or false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Get the number of items in the heap
+     *
+     * @return - The number of items
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Add a new item with the associate priority to the heap.
+     *
+     * @param priority - The priority of the new item
+     * @param value    - The new item
+     * @return - The handle of the item, used to change its priority or remove it later on
+     */
+    public Object add(int priority, Object value)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("Cannot add null item to the heap.");
+        }
+
+        // If the heap is full, double its size
+        if (count == heap.length)
+        {
+            DSAIndexedHeapEntry[] newHeap = new DSAIndexedHeapEntry[heap.length * 2];
+            System.arraycopy(heap, 0, newHeap, 0, count);
+            heap = newHeap;
+        }
+
+        DSAIndexedHeapEntry entry = new DSAIndexedHeapEntry(priority, value);
+        count++;
+        trickleUp(count - 1, entry);
+
+        return entry;
+    }
+
+    /**
+     * Get the item at the top of the heap (the highest priority) without removing it.
+     *
+     * @return - The item at the top of the heap
+     */
+    public Object peek()
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("The heap is empty.");
+        }
+
+        return heap[0].value;
+    }
+
+    /**
+     * Take the item at the top of the heap (the highest priority).
+     *
+     * @return - The item at the top of the heap
+     */
+    public Object remove()
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("The heap is empty.");
+        }
+
+        Object outItem = heap[0].value;
+        removeAt(0);
+
+        return outItem;
+    }
+
+    /**
+     * Removes the item with the given handle from the heap.
+     * The handle cannot be used after this.
+     *
+     * @param handle - The handle of the item
+     */
+    public void remove(Object handle)
+    {
+        removeAt(toEntry(handle).position);
+    }
+
+    /**
+     * Returns the current priority of an item
+     *
+     * @param handle - The handle of the item
+     * @return - The priority of the item
+     */
+    public int getPriority(Object handle)
+    {
+        return toEntry(handle).priority;
+    }
+
+    /**
+     * Raises the priority of an item and moves it up to its new position.
+     * If the new priority is lower than the current one, throws an exception.
+     *
+     * @param handle      - The handle of the item
+     * @param newPriority - The new priority of the item
+     */
+    public void increaseKey(Object handle, int newPriority)
+    {
+        DSAIndexedHeapEntry entry = toEntry(handle);
+        if (newPriority < entry.priority)
+        {
+            throw new IllegalArgumentException("The new priority is lower than the current one.");
+        }
+
+        entry.priority = newPriority;
+        trickleUp(entry.position, entry);
+    }
+
+    /**
+     * Lowers the priority of an item and moves it down to its new position.
+     * If the new priority is higher than the current one, throws an exception.
+     *
+     * @param handle      - The handle of the item
+     * @param newPriority - The new priority of the item
+     */
+    public void decreaseKey(Object handle, int newPriority)
+    {
+        DSAIndexedHeapEntry entry = toEntry(handle);
+        if (newPriority > entry.priority)
+        {
+            throw new IllegalArgumentException("The new priority is higher than the current one.");
+        }
+
+        entry.priority = newPriority;
+        trickleDown(entry.position, entry);
+    }
+
+    // Checks the handle and turns it back into an entry
+    private DSAIndexedHeapEntry toEntry(Object handle)
+    {
+        if (!(handle instanceof DSAIndexedHeapEntry))
+        {
+            throw new IllegalArgumentException("Invalid handle for the heap.");
+        }
+
+        DSAIndexedHeapEntry entry = (DSAIndexedHeapEntry) handle;
+        if (entry.position < 0 || entry.position >= count || heap[entry.position] != entry)
+        {
+            throw new IllegalArgumentException("Invalid handle for the heap.");
+        }
+
+        return entry;
+    }
+
+    /**
+     * Removes the item at the given position.
+     * The last item is moved into the hole, then up or down depending on its priority.
+     */
+    private void removeAt(int index)
+    {
+        DSAIndexedHeapEntry removed = heap[index];
+        count--;
+        DSAIndexedHeapEntry last = heap[count];
+        heap[count] = null;
+        removed.position = -1;
+
+        if (index < count)
+        {
+            if (index > 0 && heap[(index - 1) / arity].priority < last.priority)
+            {
+                trickleUp(index, last);
+            }
+            else
+            {
+                trickleDown(index, last);
+            }
+        }
+    }
+
+    // Moves the entry up from the given position, the parents with lower priority are moved down
+    private void trickleUp(int index, DSAIndexedHeapEntry entry)
+    {
+        while (index > 0)
+        {
+            int parent = (index - 1) / arity;
+            if (heap[parent].priority >= entry.priority)
+            {
+                break;
+            }
+
+            place(index, heap[parent]);
+            index = parent;
+        }
+
+        place(index, entry);
+    }
+
+    // Moves the entry down from the given position, the largest child is moved up while it is larger
+    private void trickleDown(int index, DSAIndexedHeapEntry entry)
+    {
+        int firstChild = index * arity + 1;
+        while (firstChild < count)
+        {
+            int lastChild = Math.min(firstChild + arity, count);
+            int largeChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++)
+            {
+                if (heap[child].priority > heap[largeChild].priority)
+                {
+                    largeChild = child;
+                }
+            }
+
+            if (heap[largeChild].priority <= entry.priority)
+            {
+                break;
+            }
+
+            place(index, heap[largeChild]);
+            index = largeChild;
+            firstChild = index * arity + 1;
+        }
+
+        place(index, entry);
+    }
+
+    // Puts an entry at the given position and lets the entry know where it is
+    private void place(int index, DSAIndexedHeapEntry entry)
+    {
+        heap[index] = entry;
+        entry.position = index;
+    }
+
+    // String representation of the heap
+    public String toString()
+    {
+        String str = "";
+        for (int i = 0; i < count; i++)
+        {
+            str += "[" + i + "] " + heap[i].priority + " - " + heap[i].value.toString() + "\n";
+        }
+
+        return str;
+    }
+
+    /**
+     * An item in the heap, this is also the handle given back to the caller.
+     */
+    private class DSAIndexedHeapEntry implements Serializable
+    {
+        private int priority;
+        private Object value;
+        private int position;  // The position of the item in the heap array (-1 if removed)
+
+        public DSAIndexedHeapEntry(int inPriority, Object inValue)
+        {
+            priority = inPriority;
+            value = inValue;
+            position = -1;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAIntHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     Hash Table with int keys (e.g the ID of a person), laid out in the same way as
+ * DSAHashTable (parallel arrays, power-of-two size, linear probing) but the keys are kept as
+ * plain ints, so a lookup never hashes a String or boxes an Integer and a probe only compares ints.
+ * Removed entries are handled in the same way as in DSAHashTable.
+ * The states of the slots, the probe sequences, resizing and clearing are shared with the other hash
+ * tables in DSASlotTable, this class keeps the int keys and the values.
+ */
+
+import java.util.Iterator;
+
+public class DSAIntHashTable extends DSASlotTable implements Iterable
+{
+    private int[] keys;       // The key in each slot
+    private Object[] values;  // The value in each slot
+
+    /**
+     * Alternate constructor.
+     * Creates a HashTable with a given table size.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     */
+    public DSAIntHashTable(int tableSize)
+    {
+        this(tableSize, "DSAIntHashTable (other)");
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates a HashTable with a given table size, whose statistics are kept under the given role.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     * @param inRole    - What the table is used for (e.g. "Person following"), for the statistics
+     */
+    public DSAIntHashTable(int tableSize, String inRole)
+    {
+        super(tableSize, inRole);
+        keys = new int[getTableSize()];
+        values = new Object[getTableSize()];
+    }
+
+    /**
+     * Creates a table that can hold the given number of entries without growing.
+     *
+     * @param expectedEntries - The number of entries the table is going to hold
+     * @return - The new table
+     */
+    public static DSAIntHashTable withExpectedEntries(int expectedEntries)
+    {
+        return new DSAIntHashTable(DSATablePolicy.tableSizeFor(expectedEntries));
+    }
+
+    /**
+     * Returns all the values stored in the table as a LinkedList.
+     * If the table is empty, throws an exception.
+     *
+     * @return - The list containing all the values of the table
+     */
+    public DSALinkedList values()
+    {
+        if (isEmpty())
+        {
+            throw new IllegalArgumentException("Hash Table is empty.");
+        }
+
+        DSALinkedList list = new DSALinkedList();
+        for (int i = 0; i < values.length; i++)
+        {
+            if (isUsed(i))
+            {
+                list.insertLast(values[i]);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns an iterator that walks through the values stored in the table, straight over the slots
+     * of the table. The table must not be changed while it is being iterated.
+     *
+     * @return - The iterator
+     */
+    public Iterator iterator()
+    {
+        return new DSASlotIterator();
+    }
+
+    /**
+     * Checks if the item with the given key is in the table
+     *
+     * @param key - The given key used to check
+     * @return - true if the key is in the table or false otherwise
+     */
+    public boolean hasKey(int key)
+    {
+        return findKey(hashInt(key), key, null) != -1;
+    }
+
+    /**
+     * Puts a new item with the given key into the table.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     */
+    public void put(int inKey, Object inValue)
+    {
+        int position = probe(hashInt(inKey), inKey, null);
+        if (position >= 0)
+        {
+            throw new IllegalArgumentException("Key is already in the table");
+        }
+
+        fill(takeProbedSlot(position), inKey, inValue);
+        afterPut();
+    }
+
+    /**
+     * Puts a new item with the given key into the table if the key is not in the table yet,
+     * with only one probe sequence.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     * @return - The value already stored with the key, or null if the new item was put into the table
+     */
+    public Object putIfAbsent(int inKey, Object inValue)
+    {
+        Object existing = null;
+        int position = probe(hashInt(inKey), inKey, null);
+
+        if (position >= 0)
+        {
+            existing = values[position];
+        }
+        else
+        {
+            fill(takeProbedSlot(position), inKey, inValue);
+            afterPut();
+        }
+
+        return existing;
+    }
+
+    /**
+     * Get an item with the given key from the table, or null if the key is not in the table.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table or null otherwise
+     */
+    public Object getOrNull(int key)
+    {
+        int position = findKey(hashInt(key), key, null);
+        return (position == -1) ? null : values[position];
+    }
+
+    /**
+     * Get an item with the given key from the table without removing it
+     * from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table
+     */
+    public Object get(int key)
+    {
+        int position = findKey(hashInt(key), key, null);
+
+        if (position == -1)
+        {
+            throw new IllegalArgumentException("Key not found in the table");
+        }
+
+        return values[position];
+    }
+
+    /**
+     * Removes an item associate with the given key from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key of the item.
+     */
+    public void removeKey(int key)
+    {
+        int position = findKey(hashInt(key), key, null);
+
+        if (position == -1)
+        {
+            throw new IllegalArgumentException("Key not found in the table");
+        }
+
+        removeAt(position);
+    }
+
+    /**
+     * Removes an item associate with the given key from the table and returns its value,
+     * with only one probe sequence.
+     *
+     * @param key - The key of the item.
+     * @return - The value of the removed item, or null if the key is not in the table
+     */
+    public Object remove(int key)
+    {
+        Object value = null;
+        int position = findKey(hashInt(key), key, null);
+
+        if (position != -1)
+        {
+            value = values[position];
+            removeAt(position);
+        }
+
+        return value;
+    }
+
+    // Lets go of the entry at the given position, then shrinks the table or clears the removed slots
+    private void removeAt(int position)
+    {
+        values[position] = null;
+        releaseSlot(position);
+        afterRemove();
+    }
+
+    // Puts an entry into a slot taken for it
+    private void fill(int slot, int key, Object value)
+    {
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    protected boolean matches(int slot, int intKey, Object objKey, int keyHash)
+    {
+        return keys[slot] == intKey;
+    }
+
+    protected int hashAt(int slot)
+    {
+        return hashInt(keys[slot]);
+    }
+
+    protected void moveEntry(int from, int to)
+    {
+        fill(to, keys[from], values[from]);
+        values[from] = null;
+    }
+
+    protected void moveEntries(byte[] oldStates, int newSize)
+    {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[newSize];
+        values = new Object[newSize];
+
+        for (int i = 0; i < oldStates.length; i++)
+        {
+            if (oldStates[i] == USED)
+            {
+                fill(takeFreeSlot(hashInt(oldKeys[i])), oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    protected Object valueAt(int slot)
+    {
+        return values[slot];
+    }
+}
@@ -0,0 +1,293 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAIntHeap.java
+ * Date modified: 18/10/2026
+ * Purpose:     Heap of ints (highest priority at the top), same as DSAHeap but each item is an int
+ * payload (e.g the position of a post in an array or the ID of a person) stored in an int array
+ * next to the priorities, so adding and removing items never makes any objects.
+ * The heap grows when it is full and can be cleared and used again.
+ * It also has a static heap sort that sorts an int array in place without making anything.
+ */
+
+import java.io.Serializable;
+
+public class DSAIntHeap implements Serializable
+{
+    private int[] priorities;  // The priority of each item in the heap
+    private int[] payloads;    // The items in the heap
+    private int count;  // The number of elements stored
+    private int arity;  // The number of children of each item
+
+    /**
+     * Default constructor.
+     * Construct an empty binary heap.
+     */
+    public DSAIntHeap()
+    {
+        this(DSAHeap.DEFAULT_CAPACITY, DSAHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Alternate constructor.
+     * Construct an empty heap with the given starting size and number of children of each item.
+     *
+     * @param capacity - The number of items the heap can hold before growing
+     * @param inArity  - The number of children of each item (at least 2)
+     */
+    public DSAIntHeap(int capacity, int inArity)
+    {
+        if (capacity < 0)
+        {
+            throw new IllegalArgumentException("Invalid size for the heap.");
+        }
+
+        if (inArity < 2)
+        {
+            throw new IllegalArgumentException("Each item of the heap must be able to have at least 2 children.");
+        }
+
+        priorities = new int[capacity];
+        payloads = new int[capacity];
+        count = 0;
+        arity = inArity;
+    }
+
+    /**
+     * Checks if the heap is empty or not
+     *
+     * @return - true if the heap is empty or false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Get the number of items in the heap
+     *
+     * @return - The number of items
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Removes all the items from the heap (the arrays are kept)
+     */
+    public void clear()
+    {
+        count = 0;
+    }
+
+    /**
+     * Add a new item with the associate priority to the heap.
+     *
+     * @param priority - The priority of the new item
+     * @param payload  - The new item
+     */
+    public void add(int priority, int payload)
+    {
+        // If the heap is full, double its size
+        if (count == payloads.length)
+        {
+            resize(Math.max(DSAHeap.DEFAULT_CAPACITY, payloads.length * 2));
+        }
+
+        count++;
+        trickleUp(count - 1, priority, payload);
+    }
+
+    /**
+     * Replaces the content of the heap with the given items and heapifies them in O(N).
+     *
+     * @param inPriorities - The priorities of the items
+     * @param inPayloads   - The items, inPayloads[i] has the priority inPriorities[i]
+     * @param num          - The number of items to take from the start of the arrays
+     */
+    public void buildFrom(int[] inPriorities, int[] inPayloads, int num)
+    {
+        if (num < 0 || num > inPriorities.length || num > inPayloads.length)
+        {
+            throw new IllegalArgumentException("Invalid number of items for the heap.");
+        }
+
+        if (num > payloads.length)
+        {
+            priorities = new int[num];
+            payloads = new int[num];
+        }
+
+        System.arraycopy(inPriorities, 0, priorities, 0, num);
+        System.arraycopy(inPayloads, 0, payloads, 0, num);
+        count = num;
+
+        for (int i = (count - 2) / arity; i >= 0; i--)
+        {
+            trickleDown(i, priorities[i], payloads[i]);
+        }
+    }
+
+    /**
+     * Get the item at the top of the heap without removing it.
+     *
+     * @return - The item with the highest priority
+     */
+    public int peek()
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("The heap is empty.");
+        }
+
+        return payloads[0];
+    }
+
+    /**
+     * Get the priority of the item at the top of the heap.
+     *
+     * @return - The highest priority in the heap
+     */
+    public int peekPriority()
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("The heap is empty.");
+        }
+
+        return priorities[0];
+    }
+
+    /**
+     * Take the item at the top of the heap (the highest priority).
+     *
+     * @return - The item at the top of the heap
+     */
+    public int remove()
+    {
+        if (count == 0)
+        {
+            throw new IllegalArgumentException("The heap is empty.");
+        }
+
+        int outItem = payloads[0];
+        count--;
+        if (count > 0)
+        {
+            trickleDown(0, priorities[count], payloads[count]);
+        }
+
+        return outItem;
+    }
+
+    /**
+     * Sorts an integer array in ascending order using heap sort.
+     * The array itself is used as the heap, so nothing is made.
+     *
+     * @param arr - The array that needs to be sorted
+     */
+    public static void sort(int[] arr)
+    {
+        // Heapify the whole array from the last parent up to the top
+        for (int i = arr.length / 2 - 1; i >= 0; i--)
+        {
+            siftDown(arr, i, arr[i], arr.length);
+        }
+
+        // Move the largest item to the end of the array and shrink the heap by one each time
+        for (int last = arr.length - 1; last > 0; last--)
+        {
+            int item = arr[last];
+            arr[last] = arr[0];
+            siftDown(arr, 0, item, last);
+        }
+    }
+
+    // Trickle down an item in a binary max heap stored in the first "size" positions of the array
+    private static void siftDown(int[] arr, int index, int item, int size)
+    {
+        int child = index * 2 + 1;
+        while (child < size)
+        {
+            // Choose the larger child
+            if (child + 1 < size && arr[child + 1] > arr[child])
+            {
+                child++;
+            }
+
+            if (arr[child] <= item)
+            {
+                break;
+            }
+
+            arr[index] = arr[child];
+            index = child;
+            child = index * 2 + 1;
+        }
+
+        arr[index] = item;
+    }
+
+    // Moves the item up from the given position, the parents with lower priority are moved down
+    private void trickleUp(int index, int priority, int payload)
+    {
+        while (index > 0)
+        {
+            int parent = (index - 1) / arity;
+            if (priorities[parent] >= priority)
+            {
+                break;
+            }
+
+            priorities[index] = priorities[parent];
+            payloads[index] = payloads[parent];
+            index = parent;
+        }
+
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    // Moves the item down from the given position, the largest child is moved up while it is larger
+    private void trickleDown(int index, int priority, int payload)
+    {
+        int firstChild = index * arity + 1;
+        while (firstChild < count)
+        {
+            int lastChild = Math.min(firstChild + arity, count);
+            int largeChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++)
+            {
+                if (priorities[child] > priorities[largeChild])
+                {
+                    largeChild = child;
+                }
+            }
+
+            if (priorities[largeChild] <= priority)
+            {
+                break;
+            }
+
+            priorities[index] = priorities[largeChild];
+            payloads[index] = payloads[largeChild];
+            index = largeChild;
+            firstChild = index * arity + 1;
+        }
+
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    // Moves the items to bigger arrays
+    private void resize(int newSize)
+    {
+        int[] newPriorities = new int[newSize];
+        int[] newPayloads = new int[newSize];
+        System.arraycopy(priorities, 0, newPriorities, 0, count);
+        System.arraycopy(payloads, 0, newPayloads, 0, count);
+        priorities = newPriorities;
+        payloads = newPayloads;
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAIntIntHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     Hash Table from int keys to int values (e.g from the ID of a person to a position in an array).
+ * Same as DSAIntHashTable but the values are plain ints as well, so nothing is boxed at all.
+ * The states of the slots, the probe sequences, resizing and clearing are shared with the other hash
+ * tables in DSASlotTable, this class keeps the int keys and the int values.
+ */
+
+public class DSAIntIntHashTable extends DSASlotTable
+{
+    private int[] keys;       // The key in each slot
+    private int[] values;     // The value in each slot
+
+    /**
+     * Alternate constructor.
+     * Creates a HashTable with a given table size.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     */
+    public DSAIntIntHashTable(int tableSize)
+    {
+        this(tableSize, "DSAIntIntHashTable (other)");
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates a HashTable with a given table size, whose statistics are kept under the given role.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     * @param inRole    - What the table is used for (e.g. "Person followers"), for the statistics
+     */
+    public DSAIntIntHashTable(int tableSize, String inRole)
+    {
+        super(tableSize, inRole);
+        keys = new int[getTableSize()];
+        values = new int[getTableSize()];
+    }
+
+    /**
+     * Creates a table that can hold the given number of entries without growing.
+     *
+     * @param expectedEntries - The number of entries the table is going to hold
+     * @return - The new table
+     */
+    public static DSAIntIntHashTable withExpectedEntries(int expectedEntries)
+    {
+        return new DSAIntIntHashTable(DSATablePolicy.tableSizeFor(expectedEntries));
+    }
+
+    /**
+     * Checks if the item with the given key is in the table
+     *
+     * @param key - The given key used to check
+     * @return - true if the key is in the table or false otherwise
+     */
+    public boolean hasKey(int key)
+    {
+        return findKey(hashInt(key), key, null) != -1;
+    }
+
+    /**
+     * Puts a new item with the given key into the table.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     */
+    public void put(int inKey, int inValue)
+    {
+        int position = probe(hashInt(inKey), inKey, null);
+        if (position >= 0)
+        {
+            throw new IllegalArgumentException("Key is already in the table");
+        }
+
+        fill(takeProbedSlot(position), inKey, inValue);
+        afterPut();
+    }
+
+    /**
+     * Puts a new item with the given key into the table if the key is not in the table yet,
+     * with only one probe sequence.
+     *
+     * @param inKey   - The key of the item
+     * @param inValue - The value of the item
+     * @return - true if the new item was put into the table or false if the key was already there
+     */
+    public boolean putIfAbsent(int inKey, int inValue)
+    {
+        int position = probe(hashInt(inKey), inKey, null);
+        boolean absent = position < 0;
+
+        if (absent)
+        {
+            fill(takeProbedSlot(position), inKey, inValue);
+            afterPut();
+        }
+
+        return absent;
+    }
+
+    /**
+     * Get an item with the given key from the table without removing it
+     * from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key associate with the value
+     * @return - The value if it is in the table
+     */
+    public int get(int key)
+    {
+        return values[positionOf(key)];
+    }
+
+    /**
+     * Changes the value of the item with the given key, with only one probe sequence.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key      - The key of the item
+     * @param newValue - The new value of the item
+     * @return - The old value of the item
+     */
+    public int replace(int key, int newValue)
+    {
+        int position = positionOf(key);
+        int oldValue = values[position];
+        values[position] = newValue;
+        return oldValue;
+    }
+
+    /**
+     * Removes an item associate with the given key from the table.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key of the item.
+     */
+    public void removeKey(int key)
+    {
+        remove(key);
+    }
+
+    /**
+     * Removes an item associate with the given key from the table and returns its value,
+     * with only one probe sequence.
+     * If the key is not in the table, throws an exception.
+     *
+     * @param key - The key of the item.
+     * @return - The value of the removed item
+     */
+    public int remove(int key)
+    {
+        int position = positionOf(key);
+        int value = values[position];
+        releaseSlot(position);
+        afterRemove();
+
+        return value;
+    }
+
+    // Returns the position of the given key in the table, throws if the key is not in the table
+    private int positionOf(int key)
+    {
+        int position = findKey(hashInt(key), key, null);
+
+        if (position == -1)
+        {
+            throw new IllegalArgumentException("Key not found in the table");
+        }
+
+        return position;
+    }
+
+    // Puts an entry into a slot taken for it
+    private void fill(int slot, int key, int value)
+    {
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    protected boolean matches(int slot, int intKey, Object objKey, int keyHash)
+    {
+        return keys[slot] == intKey;
+    }
+
+    protected int hashAt(int slot)
+    {
+        return hashInt(keys[slot]);
+    }
+
+    protected void moveEntry(int from, int to)
+    {
+        fill(to, keys[from], values[from]);
+    }
+
+    protected void moveEntries(byte[] oldStates, int newSize)
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[newSize];
+        values = new int[newSize];
+
+        for (int i = 0; i < oldStates.length; i++)
+        {
+            if (oldStates[i] == USED)
+            {
+                fill(takeFreeSlot(hashInt(oldKeys[i])), oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    // The values are ints, this table has no iterator
+    protected Object valueAt(int slot)
+    {
+        return Integer.valueOf(values[slot]);
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Author:  Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAIntQueue.java
+ * Date modified: 18/10/2026
+ * Purpose:     Queue of ints (e.g the IDs of people) using a circular array.
+ * Same as DSAQueue but the items are plain ints, so nothing is boxed. The queue can be
+ * cleared and used again without making a new array, which is how the breadth first
+ * search of the network reuses it from one spread to the next.
+ */
+
+import java.io.Serializable;
+
+public class DSAIntQueue implements Serializable
+{
+    private int[] items;  // The array to store items
+    private int head;   // The position of the item at the front
+    private int count;  // The number of items stored
+
+    /**
+     * Default constructor.
+     * Creates an empty queue with the default capacity.
+     */
+    public DSAIntQueue()
+    {
+        this(DSAQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates an empty queue with room for the given number of items (it still grows if needed).
+     *
+     * @param capacity - The number of items the queue can hold before growing
+     */
+    public DSAIntQueue(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Invalid capacity for the queue.");
+        }
+
+        items = new int[capacity];
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Checks if the queue is empty or not
+     *
+     * @return - returns true if the queue is empty, otherwise return false
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Get the total number of items currently stored in the queue
+     *
+     * @return - the number of items inside the queue
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Removes all the items from the queue (the array is kept)
+     */
+    public void clear()
+    {
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Enqueues a new item into the queue.
+     *
+     * @param inItem - The item to be enqueued
+     */
+    public void enqueue(int inItem)
+    {
+        // If the array is full, double its size
+        if (count == items.length)
+        {
+            resize(items.length * 2);
+        }
+
+        int tail = head + count;
+        if (tail >= items.length)
+        {
+            tail -= items.length;
+        }
+        items[tail] = inItem;
+        count++;
+    }
+
+    /**
+     * Takes the item at the front and removes it from the queue
+     *
+     * @return - The item at the front of the queue
+     */
+    public int dequeue()
+    {
+        // Cannot take item from an empty queue
+        if (isEmpty())
+        {
+            throw new IllegalArgumentException("Calling dequeue() with empty queue.");
+        }
+
+        int outItem = items[head];
+        head++;
+        if (head == items.length)
+        {
+            head = 0;
+        }
+        count--;
+
+        return outItem;
+    }
+
+    /**
+     * Gets an item at the front of the queue but not removing it.
+     *
+     * @return - The item at the front
+     */
+    public int peek()
+    {
+        // Cannot take item from an empty queue
+        if (isEmpty())
+        {
+            throw new IllegalArgumentException("Calling peek() with empty queue.");
+        }
+
+        return items[head];
+    }
+
+    /**
+     * Moves all the items to a new array with the given size, the front item goes to position 0
+     */
+    private void resize(int newSize)
+    {
+        int[] newItems = new int[newSize];
+        for (int i = 0; i < count; i++)
+        {
+            newItems[i] = items[(head + i) % items.length];
+        }
+
+        items = newItems;
+        head = 0;
+    }
+}
@@ -2,8 +2,13 @@
  * Name:    Khoa Nam Pham
  * StudentID:   19305875
  * File name:   DSALinkedList.java
- * Date Modified: 19/10/2019
+ * Date Modified: 18/10/2026
  * Purpose:     Implementation of double-ended doubly-linked list
+ * The list is unrolled: instead of one node per item, the items are stored in chunks (small arrays)
+ * and the chunks are linked together. Items are added to the chunk at the front or the back until
+ * it is full, then a new chunk is linked in, so a long list needs far fewer objects and its items
+ * sit next to each other in memory. The chunks get bigger as the list grows (up to MAX_CHUNK_SIZE),
+ * so short lists (e.g the posts liked by one person) do not waste space either.
  * NOTE:        This class is a REUSED class from the Practical 3
  */
 
@@ -12,17 +17,22 @@ import java.util.Iterator;
 
 public class DSALinkedList implements Iterable, Serializable
 {
-    private DSAListNode head;  // The node at the front
-    private DSAListNode tail;  // The node at the end
+    public static final int MIN_CHUNK_SIZE = 4;   // The size of the first chunk
+    public static final int MAX_CHUNK_SIZE = 64;  // The size of the chunks of a long list
+
+    private DSAListChunk head;  // The chunk at the front
+    private DSAListChunk tail;  // The chunk at the end
+    private int count;  // The number of items in the list
 
     /**
      * Default constructor.
-     * An empty list has both head and tail node being null.
+     * An empty list has both head and tail chunk being null.
      */
     public DSALinkedList()
     {
         this.head = null;
         this.tail = null;
+        this.count = 0;
     }
 
     /**
@@ -35,6 +45,16 @@ public class DSALinkedList implements Iterable, Serializable
         return this.head == null;
     }
 
+    /**
+     * Get the number of items in the list
+     *
+     * @return - The number of items
+     */
+    public int count()
+    {
+        return count;
+    }
+
     /**
      * Insert a new item at the start of the linked list
      *
@@ -42,19 +62,32 @@ public class DSALinkedList implements Iterable, Serializable
      */
     public void insertFirst(Object inValue)
     {
-        DSAListNode newNode = new DSAListNode(inValue);
-        if (isEmpty())   // If the list is emtpy, set both the head and tail to the new node
-        {
-            head = newNode;
-            tail = newNode;
-        }
-        // Updates the links at the start of the list
-        else
+        checkValue(inValue);
+
+        // If there is no room at the start of the first chunk, link a new chunk in front of it
+        // The new chunk is filled from its end, so more items can be inserted in front later on
+        if (head == null || head.start == 0)
         {
-            head.prev = newNode;
-            newNode.next = head;
-            head = newNode;
+            DSAListChunk newChunk = new DSAListChunk(nextChunkSize());
+            newChunk.start = newChunk.items.length;
+            newChunk.end = newChunk.items.length;
+
+            if (isEmpty())   // If the list is emtpy, set both the head and tail to the new chunk
+            {
+                tail = newChunk;
+            }
+            // Updates the links at the start of the list
+            else
+            {
+                head.prev = newChunk;
+                newChunk.next = head;
+            }
+            head = newChunk;
         }
+
+        head.start--;
+        head.items[head.start] = inValue;
+        count++;
     }
 
     /**
@@ -64,19 +97,29 @@ public class DSALinkedList implements Iterable, Serializable
      */
     public void insertLast(Object inValue)
     {
-        DSAListNode newNode = new DSAListNode(inValue);
-        if (isEmpty())   // If the list is empty, set both the head and tail to the new node
-        {
-            head = newNode;
-            tail = newNode;
-        }
-        // Update the links at the end of the list
-        else
+        checkValue(inValue);
+
+        // If there is no room at the end of the last chunk, link a new chunk after it
+        if (tail == null || tail.end == tail.items.length)
         {
-            tail.next = newNode;
-            newNode.prev = tail;
-            tail = newNode;
+            DSAListChunk newChunk = new DSAListChunk(nextChunkSize());
+
+            if (isEmpty())   // If the list is empty, set both the head and tail to the new chunk
+            {
+                head = newChunk;
+            }
+            // Update the links at the end of the list
+            else
+            {
+                tail.next = newChunk;
+                newChunk.prev = tail;
+            }
+            tail = newChunk;
         }
+
+        tail.items[tail.end] = inValue;
+        tail.end++;
+        count++;
     }
 
     /**
@@ -92,7 +135,7 @@ public class DSALinkedList implements Iterable, Serializable
             throw new IllegalStateException("Error: Calling peekFirst() on empty list.");
         }
 
-        Object outItem = head.value;
+        Object outItem = head.items[head.start];
         return outItem;
     }
 
@@ -109,7 +152,7 @@ public class DSALinkedList implements Iterable, Serializable
             throw new IllegalStateException("Error: Calling peekLast() on empty list.");
         }
 
-        Object outItem = tail.value;
+        Object outItem = tail.items[tail.end - 1];
         return outItem;
     }
 
@@ -126,18 +169,26 @@ public class DSALinkedList implements Iterable, Serializable
             throw new IllegalStateException("Error: Calling removeFirst() on empty list.");
         }
 
-        Object outItem = head.value;
-        head = head.next;
+        Object outItem = head.items[head.start];
+        head.items[head.start] = null;
+        head.start++;
+        count--;
 
-        // If the list is empty after removing, set the tail to null
-        // because the tail still point to the last item.
-        if (head == null)
+        // If the first chunk is empty after removing, unlink it
+        if (head.start == head.end)
         {
-            tail = null;
-        }
-        else
-        {
-            head.prev = null;
+            head = head.next;
+
+            // If the list is empty after removing, set the tail to null
+            // because the tail still point to the last chunk.
+            if (head == null)
+            {
+                tail = null;
+            }
+            else
+            {
+                head.prev = null;
+            }
         }
 
         return outItem;
@@ -156,18 +207,26 @@ public class DSALinkedList implements Iterable, Serializable
             throw new IllegalStateException("Error: Calling removeLast() on empty list.");
         }
 
-        Object outItem = tail.value;
-        tail = tail.prev;
+        tail.end--;
+        Object outItem = tail.items[tail.end];
+        tail.items[tail.end] = null;
+        count--;
 
-        // If the list is empty after removing, set the head to null
-        // because the head still point to the last item.
-        if (tail == null)
+        // If the last chunk is empty after removing, unlink it
+        if (tail.start == tail.end)
         {
-            head = null;
-        }
-        else
-        {
-            tail.next = null;
+            tail = tail.prev;
+
+            // If the list is empty after removing, set the head to null
+            // because the head still point to the last chunk.
+            if (tail == null)
+            {
+                head = null;
+            }
+            else
+            {
+                tail.next = null;
+            }
         }
 
         return outItem;
@@ -183,24 +242,39 @@ public class DSALinkedList implements Iterable, Serializable
         return new DSAListIterator(this);
     }
 
+    // The list cannot hold null items
+    private void checkValue(Object inValue)
+    {
+        if (inValue == null)
+        {
+            throw new IllegalArgumentException("Insert null value into the list.");
+        }
+    }
+
+    // A new chunk is about as big as the list already is, between MIN_CHUNK_SIZE and MAX_CHUNK_SIZE
+    private int nextChunkSize()
+    {
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, count));
+    }
+
     /**
-     * ListNode implementation.
-     * Each node will have a value and the reference to the next and previous node in the list.
+     * Chunk implementation.
+     * Each chunk holds the items at positions start to end - 1 of its array
+     * and the reference to the next and previous chunk in the list.
      */
-    private class DSAListNode implements Serializable
+    private class DSAListChunk implements Serializable
     {
-        public Object value;
-        public DSAListNode next;  // Next node in the list
-        public DSAListNode prev;  // Previous node in the list
+        public Object[] items;
+        public int start;  // The position of the first item
+        public int end;    // The position after the last item
+        public DSAListChunk next;  // Next chunk in the list
+        public DSAListChunk prev;  // Previous chunk in the list
 
-        public DSAListNode(Object inValue)
+        public DSAListChunk(int size)
         {
-            if (inValue == null)
-            {
-                throw new IllegalArgumentException("Create ListNode with null value.");
-            }
-
-            value = inValue;
+            items = new Object[size];
+            start = 0;
+            end = 0;
             next = null;
             prev = null;
         }
@@ -211,12 +285,14 @@ public class DSALinkedList implements Iterable, Serializable
      */
     private class DSAListIterator implements Iterator, Serializable
     {
-        private DSAListNode current;
+        private DSAListChunk current;
+        private int position;  // The position of the next item in the current chunk
 
         // When first created, the iterator will point at the first item
         public DSAListIterator(DSALinkedList theList)
         {
             current = theList.head;
+            position = (current == null) ? 0 : current.start;
         }
 
         public boolean hasNext()
@@ -240,8 +316,15 @@ public class DSALinkedList implements Iterable, Serializable
             }
             else
             {
-                outItem = current.value;
-                current = current.next;
+                outItem = current.items[position];
+                position++;
+
+                // Move to the next chunk at the end of the current one
+                if (position == current.end)
+                {
+                    current = current.next;
+                    position = (current == null) ? 0 : current.start;
+                }
             }
 
             return outItem;
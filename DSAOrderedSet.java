@@ -0,0 +1,242 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSAOrderedSet.java
+ * Date modified: 18/10/2026
+ * Purpose:     A set of items (each with a unique int key, e.g the ID of a person) that keeps the order in which
+ * the items were added.
+ * The items are stored in an array in insertion order and a hash table maps each key to
+ * the position of its item in the array, so adding, removing and checking an item are all O(1)
+ * while iterating through the set is a sequential walk over the array.
+ * Removing an item leaves a hole in the array, the holes are squeezed out when they take up
+ * more than half of the array.
+ */
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+public class DSAOrderedSet implements Iterable, Serializable
+{
+    public static final int DEFAULT_CAPACITY = 4;  // The default size of the array
+
+    private Object[] items;  // The items in insertion order, null for the removed ones
+    private int[] keys;      // The key of each item in the array
+    private DSAIntIntHashTable positions;  // Key -> position of the item in the array
+    private int end;    // The number of used positions in the array (including holes)
+    private int count;  // The number of items in the set
+
+    /**
+     * Default constructor.
+     * Creates an empty set.
+     */
+    public DSAOrderedSet()
+    {
+        this("DSAOrderedSet (other)");
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates an empty set whose hash table statistics are kept under the given role.
+     *
+     * @param inRole - What the set is used for (e.g. "Person followers"), for the statistics
+     */
+    public DSAOrderedSet(String inRole)
+    {
+        items = new Object[DEFAULT_CAPACITY];
+        keys = new int[DEFAULT_CAPACITY];
+        positions = new DSAIntIntHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, inRole);
+        end = 0;
+        count = 0;
+    }
+
+    /**
+     * Returns the number of items in the set
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Checks if the set is empty or not
+     *
+     * @return - true if the set is empty or false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Checks if there is an item with the given key in the set
+     *
+     * @param key - The key that needs checking
+     * @return - true if the key is in the set or false otherwise
+     */
+    public boolean contains(int key)
+    {
+        return positions.hasKey(key);
+    }
+
+    /**
+     * Adds a new item to the end of the set.
+     * If the key is already in the set, throws an exception.
+     *
+     * @param key   - The key of the new item
+     * @param value - The new item
+     */
+    public void add(int key, Object value)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("Cannot add null item to the set.");
+        }
+
+        // If there is no room at the end of the array, make some
+        if (end == items.length)
+        {
+            resize(Math.max(DEFAULT_CAPACITY, count * 2));
+        }
+
+        // Checks and adds the key to the hash table in one go
+        if (!positions.putIfAbsent(key, end))
+        {
+            throw new IllegalArgumentException("Key is already in the set");
+        }
+
+        items[end] = value;
+        keys[end] = key;
+        end++;
+        count++;
+    }
+
+    /**
+     * Removes the item with the given key from the set.
+     * If the key is not in the set, throws an exception.
+     *
+     * @param key - The key of the item to be removed
+     */
+    public void remove(int key)
+    {
+        int position = positions.remove(key);  // Throws if the key is not in the set
+        items[position] = null;
+        count--;
+
+        // Squeeze the holes out if they take more than half of the array
+        if (end - count > count && items.length > DEFAULT_CAPACITY)
+        {
+            resize(Math.max(DEFAULT_CAPACITY, count * 2));
+        }
+    }
+
+    /**
+     * Copies all the items in the set to an array (in insertion order).
+     * This is useful when the set needs to be changed while walking through the items.
+     *
+     * @return - The array of items
+     */
+    public Object[] toArray()
+    {
+        Object[] arr = new Object[count];
+        int j = 0;
+        for (int i = 0; i < end; i++)
+        {
+            if (items[i] != null)
+            {
+                arr[j] = items[i];
+                j++;
+            }
+        }
+
+        return arr;
+    }
+
+    /**
+     * Returns an iterator to walk through the items in insertion order.
+     * The set must not be changed while it is being iterated.
+     *
+     * @return - The iterator
+     */
+    public Iterator iterator()
+    {
+        return new DSAOrderedSetIterator();
+    }
+
+    /**
+     * Moves all the items to a new array with the given size, removing all the holes.
+     * The positions of the moved items are updated in the hash table.
+     */
+    private void resize(int newSize)
+    {
+        Object[] oldItems = items;
+        int[] oldKeys = keys;
+        int oldEnd = end;
+
+        items = new Object[newSize];
+        keys = new int[newSize];
+        end = 0;
+
+        for (int i = 0; i < oldEnd; i++)
+        {
+            if (oldItems[i] != null)
+            {
+                // Only update the position if the item has actually moved
+                if (i != end)
+                {
+                    positions.replace(oldKeys[i], end);
+                }
+                items[end] = oldItems[i];
+                keys[end] = oldKeys[i];
+                end++;
+            }
+        }
+    }
+
+    /**
+     * The iterator implementation, skips the holes left by the removed items.
+     * The remove operation is not supported.
+     */
+    private class DSAOrderedSetIterator implements Iterator, Serializable
+    {
+        private int current;  // The position of the next item
+
+        public DSAOrderedSetIterator()
+        {
+            current = 0;
+            skipHoles();
+        }
+
+        public boolean hasNext()
+        {
+            return current < end;
+        }
+
+        // Remove operation is not supported
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported operation.");
+        }
+
+        // Returns the current item and point to the next item
+        public Object next()
+        {
+            Object outItem = null;
+            if (hasNext())
+            {
+                outItem = items[current];
+                current++;
+                skipHoles();
+            }
+
+            return outItem;
+        }
+
+        private void skipHoles()
+        {
+            while (current < end && items[current] == null)
+            {
+                current++;
+            }
+        }
+    }
+}
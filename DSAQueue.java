@@ -2,8 +2,11 @@
  * Author:  Khoa Nam Pham
  * StudentID:   19305875
  * File name:   DSAQueue.java
- * Date modified: 19/10/2019
- * Purpose:     Queue implementation using DSALinkedList
+ * Date modified: 18/10/2026
+ * Purpose:     Queue implementation using a circular array
+ * The items are kept in an array that wraps around (the front moves forward on dequeue and the back
+ * moves forward on enqueue), so enqueue and dequeue do not allocate anything unless the array is full,
+ * in which case it doubles in size.
  * NOTE:        This class is a REUSED class from Practical 3
  */
 
@@ -12,16 +15,36 @@ import java.util.Iterator;
 
 public class DSAQueue implements Iterable, Serializable
 {
-    private DSALinkedList list;  // The list to store items
+    public static final int DEFAULT_CAPACITY = 16;  // The default size of the array
+
+    private Object[] items;  // The array to store items
+    private int head;   // The position of the item at the front
     private int count;  // The number of items stored
 
     /**
      * Default constructor.
-     * An empty queue will have an empty list.
+     * An empty queue will have an empty array.
      */
     public DSAQueue()
     {
-        list = new DSALinkedList();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Alternate constructor.
+     * Creates an empty queue with room for the given number of items (it still grows if needed).
+     *
+     * @param capacity - The number of items the queue can hold before growing
+     */
+    public DSAQueue(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Invalid capacity for the queue.");
+        }
+
+        items = new Object[capacity];
+        head = 0;
         count = 0;
     }
 
@@ -58,7 +81,13 @@ public class DSAQueue implements Iterable, Serializable
             throw new IllegalArgumentException("Calling enqueue() with null object.");
         }
 
-        list.insertLast(inItem);
+        // If the array is full, double its size
+        if (count == items.length)
+        {
+            resize(items.length * 2);
+        }
+
+        items[(head + count) % items.length] = inItem;
         count++;
     }
 
@@ -75,7 +104,9 @@ public class DSAQueue implements Iterable, Serializable
             throw new IllegalArgumentException("Calling dequeue() with empty queue.");
         }
 
-        Object outItem = list.removeFirst();
+        Object outItem = items[head];
+        items[head] = null;  // Let the item be garbage collected
+        head = (head + 1) % items.length;
         count--;
 
         return outItem;
@@ -94,17 +125,69 @@ public class DSAQueue implements Iterable, Serializable
             throw new IllegalArgumentException("Calling peek() with empty queue.");
         }
 
-        Object outItem = list.peekFirst();
-        return outItem;
+        return items[head];
     }
 
     /**
-     * Returns an iterator to iterates through the queue
+     * Returns an iterator to iterates through the queue (from the front to the back)
      *
      * @return - The iterator
      */
     public Iterator iterator()
     {
-        return list.iterator();
+        return new DSAQueueIterator();
+    }
+
+    /**
+     * Moves all the items to a new array with the given size, the front item goes to position 0
+     */
+    private void resize(int newSize)
+    {
+        Object[] newItems = new Object[newSize];
+        for (int i = 0; i < count; i++)
+        {
+            newItems[i] = items[(head + i) % items.length];
+        }
+
+        items = newItems;
+        head = 0;
+    }
+
+    /**
+     * The iterator implementation, goes from the front of the queue to the back.
+     * The remove operation is not supported.
+     */
+    private class DSAQueueIterator implements Iterator, Serializable
+    {
+        private int current;  // The number of items already returned
+
+        public DSAQueueIterator()
+        {
+            current = 0;
+        }
+
+        public boolean hasNext()
+        {
+            return current < count;
+        }
+
+        // Remove operation is not supported
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported operation.");
+        }
+
+        // Returns the current item and point to the next item
+        public Object next()
+        {
+            Object outItem = null;
+            if (hasNext())
+            {
+                outItem = items[(head + current) % items.length];
+                current++;
+            }
+
+            return outItem;
+        }
     }
 }
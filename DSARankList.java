@@ -0,0 +1,424 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSARankList.java
+ * Date modified: 18/10/2026
+ * Purpose:     A ranking of items by an integer rank (e.g the number of followers of a person
+ * or the number of likes of a post) that is kept in sorted order all the time.
+ * The ranks in the network only ever go up or down by one, so instead of a heap the items are
+ * grouped into buckets (one bucket per rank that is in use), the buckets are linked in
+ * descending order of rank and each bucket holds a linked list of its items.
+ * Moving an item one rank up or down only moves it to the neighbouring bucket, so
+ * increase/decrease/add/remove are all O(1), the item with the highest rank is always at the
+ * front of the first bucket and iterating gives all the items in descending order of rank.
+ * Each item added gets a handle that is used to update or remove it later on.
+ */
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+public class DSARankList implements Iterable, Serializable
+{
+    private DSARankBucket highest;  // The bucket with the highest rank
+    private DSARankBucket lowest;   // The bucket with the lowest rank
+    private int count;  // The number of items in the ranking
+
+    /**
+     * Default constructor.
+     * Creates an empty ranking.
+     */
+    public DSARankList()
+    {
+        highest = null;
+        lowest = null;
+        count = 0;
+    }
+
+    /**
+     * Returns the number of items in the ranking
+     */
+    public int count()
+    {
+        return count;
+    }
+
+    /**
+     * Checks if the ranking is empty or not
+     *
+     * @return - true if the ranking is empty or false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Adds a new item to the ranking with the given rank.
+     * The new item is placed after all the items with the same rank.
+     * Adding with rank 0 (the usual case) is O(1), other ranks need to walk the buckets
+     * from the bottom.
+     *
+     * @param value - The item to be added
+     * @param rank  - The rank of the item
+     * @return - The handle of the item, used to update or remove it later on
+     */
+    public Object add(Object value, int rank)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("Cannot add null item to the ranking.");
+        }
+
+        if (rank < 0)
+        {
+            throw new IllegalArgumentException("Rank cannot be negative.");
+        }
+
+        // Find the first bucket (from the bottom) whose rank is not below the given rank
+        DSARankBucket above = lowest;
+        while (above != null && above.rank < rank)
+        {
+            above = above.higher;
+        }
+
+        DSARankBucket bucket;
+        if (above != null && above.rank == rank)
+        {
+            bucket = above;
+        }
+        else
+        {
+            // Make a new bucket just below the found bucket (or at the top if there is none)
+            bucket = newBucketBelow(above, rank);
+        }
+
+        DSARankEntry entry = new DSARankEntry(value);
+        bucket.insertLast(entry);
+        count++;
+
+        return entry;
+    }
+
+    /**
+     * Increases the rank of an item by one.
+     * The item is placed after all the items that already had the new rank.
+     *
+     * @param handle - The handle of the item
+     */
+    public void increase(Object handle)
+    {
+        DSARankEntry entry = toEntry(handle);
+        DSARankBucket from = entry.bucket;
+        DSARankBucket to = from.higher;
+
+        // If there is no bucket for the new rank yet, make one just above the current one
+        if (to == null || to.rank != from.rank + 1)
+        {
+            to = newBucketBelow(to, from.rank + 1);
+        }
+
+        from.unlink(entry);
+        to.insertLast(entry);
+        removeIfEmpty(from);
+    }
+
+    /**
+     * Decreases the rank of an item by one.
+     * The item is placed before all the items that already had the new rank.
+     * If the rank is already 0, throws an exception.
+     *
+     * @param handle - The handle of the item
+     */
+    public void decrease(Object handle)
+    {
+        DSARankEntry entry = toEntry(handle);
+        DSARankBucket from = entry.bucket;
+
+        if (from.rank == 0)
+        {
+            throw new IllegalArgumentException("Rank cannot be negative.");
+        }
+
+        DSARankBucket to = from.lower;
+
+        // If there is no bucket for the new rank yet, make one just below the current one
+        if (to == null || to.rank != from.rank - 1)
+        {
+            to = newBucketBelow(from, from.rank - 1);
+        }
+
+        from.unlink(entry);
+        to.insertFirst(entry);
+        removeIfEmpty(from);
+    }
+
+    /**
+     * Removes an item from the ranking.
+     *
+     * @param handle - The handle of the item
+     */
+    public void remove(Object handle)
+    {
+        DSARankEntry entry = toEntry(handle);
+        DSARankBucket bucket = entry.bucket;
+
+        bucket.unlink(entry);
+        entry.bucket = null;
+        removeIfEmpty(bucket);
+        count--;
+    }
+
+    /**
+     * Returns the current rank of an item
+     *
+     * @param handle - The handle of the item
+     * @return - The rank of the item
+     */
+    public int getRank(Object handle)
+    {
+        return toEntry(handle).bucket.rank;
+    }
+
+    /**
+     * Gets the item with the highest rank without removing it.
+     * If the ranking is empty, throws an exception.
+     *
+     * @return - The item with the highest rank
+     */
+    public Object peekFirst()
+    {
+        if (isEmpty())
+        {
+            throw new IllegalArgumentException("The ranking is empty.");
+        }
+
+        return highest.head.value;
+    }
+
+    /**
+     * Returns an iterator that walks through the items in descending order of rank.
+     * The ranking must not be changed while it is being iterated.
+     *
+     * @return - The iterator
+     */
+    public Iterator iterator()
+    {
+        return new DSARankIterator();
+    }
+
+    // Checks the handle and turns it back into an entry
+    private DSARankEntry toEntry(Object handle)
+    {
+        if (!(handle instanceof DSARankEntry) || ((DSARankEntry) handle).bucket == null)
+        {
+            throw new IllegalArgumentException("Invalid handle for the ranking.");
+        }
+
+        return (DSARankEntry) handle;
+    }
+
+    /**
+     * Makes a new empty bucket with the given rank and links it just below the given bucket.
+     * If the given bucket is null, the new bucket becomes the highest one.
+     */
+    private DSARankBucket newBucketBelow(DSARankBucket above, int rank)
+    {
+        DSARankBucket bucket = new DSARankBucket(rank);
+        DSARankBucket below;
+
+        if (above == null)
+        {
+            below = highest;
+            highest = bucket;
+        }
+        else
+        {
+            below = above.lower;
+            above.lower = bucket;
+        }
+
+        if (below == null)
+        {
+            lowest = bucket;
+        }
+        else
+        {
+            below.higher = bucket;
+        }
+
+        bucket.higher = above;
+        bucket.lower = below;
+
+        return bucket;
+    }
+
+    // Unlinks the bucket from the list of buckets if it has no items left
+    private void removeIfEmpty(DSARankBucket bucket)
+    {
+        if (bucket.head == null)
+        {
+            if (bucket.higher == null)
+            {
+                highest = bucket.lower;
+            }
+            else
+            {
+                bucket.higher.lower = bucket.lower;
+            }
+
+            if (bucket.lower == null)
+            {
+                lowest = bucket.higher;
+            }
+            else
+            {
+                bucket.lower.higher = bucket.higher;
+            }
+        }
+    }
+
+    /**
+     * A bucket holds all the items with the same rank (as a doubly linked list).
+     */
+    private class DSARankBucket implements Serializable
+    {
+        private int rank;
+        private DSARankEntry head;
+        private DSARankEntry tail;
+        private DSARankBucket higher;  // The bucket with the next higher rank
+        private DSARankBucket lower;   // The bucket with the next lower rank
+
+        public DSARankBucket(int inRank)
+        {
+            rank = inRank;
+            head = null;
+            tail = null;
+            higher = null;
+            lower = null;
+        }
+
+        public void insertFirst(DSARankEntry entry)
+        {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head == null)
+            {
+                tail = entry;
+            }
+            else
+            {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        public void insertLast(DSARankEntry entry)
+        {
+            entry.bucket = this;
+            entry.next = null;
+            entry.prev = tail;
+            if (tail == null)
+            {
+                head = entry;
+            }
+            else
+            {
+                tail.next = entry;
+            }
+            tail = entry;
+        }
+
+        public void unlink(DSARankEntry entry)
+        {
+            if (entry.prev == null)
+            {
+                head = entry.next;
+            }
+            else
+            {
+                entry.prev.next = entry.next;
+            }
+
+            if (entry.next == null)
+            {
+                tail = entry.prev;
+            }
+            else
+            {
+                entry.next.prev = entry.prev;
+            }
+
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    /**
+     * An item in the ranking, this is also the handle given back to the caller.
+     */
+    private class DSARankEntry implements Serializable
+    {
+        private Object value;
+        private DSARankBucket bucket;  // The bucket this item is in (null if removed)
+        private DSARankEntry prev;
+        private DSARankEntry next;
+
+        public DSARankEntry(Object inValue)
+        {
+            value = inValue;
+            bucket = null;
+            prev = null;
+            next = null;
+        }
+    }
+
+    /**
+     * The iterator implementation, goes from the highest bucket to the lowest one.
+     * The remove operation is not supported.
+     */
+    private class DSARankIterator implements Iterator, Serializable
+    {
+        private DSARankEntry current;
+
+        public DSARankIterator()
+        {
+            current = (highest == null) ? null : highest.head;
+        }
+
+        public boolean hasNext()
+        {
+            return current != null;
+        }
+
+        // Remove operation is not supported
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported operation.");
+        }
+
+        // Returns the current item and point to the next item
+        public Object next()
+        {
+            Object outItem = null;
+            if (hasNext())
+            {
+                outItem = current.value;
+                if (current.next != null)
+                {
+                    current = current.next;
+                }
+                else if (current.bucket.lower != null)
+                {
+                    current = current.bucket.lower.head;
+                }
+                else
+                {
+                    current = null;
+                }
+            }
+
+            return outItem;
+        }
+    }
+}
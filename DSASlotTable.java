@@ -0,0 +1,422 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSASlotTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     The slots of an open addressing hash table with linear probing, shared by all the hash
+ * tables (DSAHashTable, DSAIntHashTable and DSAIntIntHashTable).
+ * This class keeps the state of each slot, the number of entries and of removed slots, and does
+ * everything that only depends on the states: the probe sequences, finding a free slot, the
+ * bookkeeping when a slot is filled or emptied, growing/shrinking (using the rules of DSATablePolicy)
+ * and clearing the removed slots in place. It also records the statistics, under the role given
+ * to the table (what it is used for), and only if they were turned on when the table was made.
+ * Each table only keeps its own key and value arrays and tells this class:
+ * - whether the key in a slot is the key being searched for (matches())
+ * - the mixed hash of the key in a slot (hashAt())
+ * - how to move an entry from one slot to another (moveEntry()) and into new arrays (moveEntries())
+ * The keys are passed down as an int and an Object (one of them unused), so int keys are never boxed.
+ */
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Iterator;
+
+public abstract class DSASlotTable implements Serializable
+{
+    /**
+     * All the states that a slot can have
+     */
+    protected static final byte NEVER_USED = DSATablePolicy.NEVER_USED;
+    protected static final byte USED = DSATablePolicy.USED;
+    protected static final byte FORMERLY_USED = DSATablePolicy.FORMERLY_USED;
+
+    private byte[] states;    // The state of each slot
+    private int mask;    // The table size - 1, used to turn a hash into an index
+    private int count;   // The number of entries so far
+    private int formerlyUsed;  // The number of slots left behind by removed entries
+    private String role;    // What the table is used for, for the statistics
+    private transient DSATableStats stats;  // The statistics of the role, null if they are off
+
+    /**
+     * Constructor.
+     * Creates the slots for a table with a given table size.
+     * The actual size is the next power of two.
+     *
+     * @param tableSize - The initial size for the table
+     * @param inRole    - What the table is used for, for the statistics
+     */
+    protected DSASlotTable(int tableSize, String inRole)
+    {
+        int size = DSATablePolicy.initialSize(tableSize);
+        states = new byte[size];
+        mask = size - 1;
+        count = 0;
+        formerlyUsed = 0;
+        role = inRole;
+        stats = DSATableStats.isEnabled() ? DSATableStats.forRole(role) : null;
+    }
+
+    // The statistics are not saved with the table, a loaded table records under the same role
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        stats = DSATableStats.isEnabled() ? DSATableStats.forRole(role) : null;
+    }
+
+    /**
+     * Checks if the key in a slot in use is the key being searched for.
+     *
+     * @param slot    - The slot (in use)
+     * @param intKey  - The key if the keys are ints
+     * @param objKey  - The key if the keys are objects
+     * @param keyHash - The mixed hash of the key
+     * @return - true if it is the same key
+     */
+    protected abstract boolean matches(int slot, int intKey, Object objKey, int keyHash);
+
+    /**
+     * Returns the mixed hash of the key in a slot in use
+     */
+    protected abstract int hashAt(int slot);
+
+    /**
+     * Moves the entry in one slot to another slot of the same arrays (and lets go of the old slot)
+     */
+    protected abstract void moveEntry(int from, int to);
+
+    /**
+     * Makes new key and value arrays of the given size and moves every entry of the old arrays
+     * (the slots that were in use in oldStates) into them, using takeFreeSlot() to place each one.
+     */
+    protected abstract void moveEntries(byte[] oldStates, int newSize);
+
+    /**
+     * Returns the value in a slot in use, for the iterator
+     */
+    protected abstract Object valueAt(int slot);
+
+    /**
+     * Computes and returns the load factor
+     */
+    public double getLoadFactor()
+    {
+        return (double) count / (double) states.length;
+    }
+
+    /**
+     * Returns the number of slots in the table
+     */
+    public int getTableSize()
+    {
+        return states.length;
+    }
+
+    /**
+     * Checks if the table is empty or not
+     *
+     * @return - True if the table is empty or False otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Makes the table big enough to hold the given number of entries without growing again.
+     * The table is resized at most once.
+     *
+     * @param expectedEntries - The number of entries the table is going to hold
+     */
+    public void ensureCapacity(int expectedEntries)
+    {
+        int newSize = DSATablePolicy.tableSizeFor(expectedEntries);
+        if (newSize > states.length)
+        {
+            resize(newSize);
+        }
+    }
+
+    // Checks if a slot holds an entry
+    protected final boolean isUsed(int slot)
+    {
+        return states[slot] == USED;
+    }
+
+    /**
+     * Searches for the key and, at the same time, for the slot where the key would be put.
+     * Returns the position of the key if it is in the table, otherwise returns -(slot + 1)
+     * where slot is the first slot of the probe sequence that is not in use.
+     *
+     * @param keyHash - The mixed hash of the key
+     * @param intKey  - The key if the keys are ints
+     * @param objKey  - The key if the keys are objects
+     * @return - The position of the key (>= 0) or -(slot + 1) if the key is not in the table
+     */
+    protected final int probe(int keyHash, int intKey, Object objKey)
+    {
+        int hashIndex = keyHash & mask;
+        int freeSlot = -1;  // The first FORMERLY_USED slot on the way, if any
+        boolean found = false;
+        int length = 1;  // The number of slots looked at
+
+        // Keep searching until found the key or reach to a never used slot
+        while (!found && states[hashIndex] != NEVER_USED)
+        {
+            if (states[hashIndex] == USED && matches(hashIndex, intKey, objKey, keyHash))
+            {
+                found = true;
+            }
+            else
+            {
+                if (states[hashIndex] == FORMERLY_USED && freeSlot == -1)
+                {
+                    freeSlot = hashIndex;
+                }
+                hashIndex = (hashIndex + 1) & mask;
+                length++;
+            }
+        }
+
+        if (stats != null)
+        {
+            stats.recordProbe(length);
+        }
+
+        return found ? hashIndex : DSATablePolicy.notFound(hashIndex, freeSlot);
+    }
+
+    /**
+     * Returns the position of the given key in the table, or -1 if the key is not in the table
+     */
+    protected final int findKey(int keyHash, int intKey, Object objKey)
+    {
+        int position = probe(keyHash, intKey, objKey);
+        return (position >= 0) ? position : -1;
+    }
+
+    /**
+     * Takes the free slot found by probe() (from its negative result) for a new entry,
+     * the caller then puts the key and value into the slot and calls afterPut().
+     *
+     * @param probeResult - The negative result of probe()
+     * @return - The slot
+     */
+    protected final int takeProbedSlot(int probeResult)
+    {
+        int slot = -probeResult - 1;
+        takeSlot(slot);
+        return slot;
+    }
+
+    /**
+     * Takes the first slot of the probe sequence of the given hash that is not in use,
+     * for an entry whose key is not in the table already.
+     *
+     * @param keyHash - The mixed hash of the key
+     * @return - The slot
+     */
+    protected final int takeFreeSlot(int keyHash)
+    {
+        int hashIndex = keyHash & mask;
+
+        // Keep probing until getting to a slot that is not in use
+        while (states[hashIndex] == USED)
+        {
+            hashIndex = (hashIndex + 1) & mask;
+        }
+
+        takeSlot(hashIndex);
+        return hashIndex;
+    }
+
+    // Marks a slot that is not in use as used by a new entry
+    private void takeSlot(int slot)
+    {
+        if (states[slot] == FORMERLY_USED)
+        {
+            formerlyUsed--;
+            if (stats != null)
+            {
+                stats.recordReusedSlot();
+            }
+        }
+
+        states[slot] = USED;
+        count++;
+    }
+
+    /**
+     * Lets go of the slot of a removed entry. The slot becomes FORMERLY_USED so the probe
+     * sequences going through it are not broken. The caller clears the key and value first
+     * and then calls afterRemove().
+     *
+     * @param slot - The slot of the removed entry
+     */
+    protected final void releaseSlot(int slot)
+    {
+        states[slot] = FORMERLY_USED;
+        count--;
+        formerlyUsed++;
+        if (stats != null)
+        {
+            stats.recordRemovedSlot();
+        }
+    }
+
+    // Grows the table or clears the removed slots after a new item was put into the table
+    protected final void afterPut()
+    {
+        // If exceed maximum allowed load factor, double the size
+        int newSize = DSATablePolicy.grownSize(count, states.length);
+        if (newSize != states.length)
+        {
+            resize(newSize);
+        }
+        // If the slots in use are fine but too many are left behind by removed entries, clear them
+        else if (DSATablePolicy.needsClearAfterPut(count, formerlyUsed, states.length))
+        {
+            clearFormerlyUsed();
+        }
+    }
+
+    // Shrinks the table or clears the removed slots after an item was removed from the table
+    protected final void afterRemove()
+    {
+        // If the load factor is too low, halve the table until it is back to the target
+        int newSize = DSATablePolicy.shrunkSize(count, states.length);
+        if (newSize != states.length)
+        {
+            resize(newSize);
+        }
+        // If too many slots are left behind by removed entries, the searches get slow, clear them
+        else if (DSATablePolicy.needsClearAfterRemove(formerlyUsed, states.length))
+        {
+            clearFormerlyUsed();
+        }
+    }
+
+    /**
+     * Clears all the FORMERLY_USED slots without making new arrays
+     * (see DSATablePolicy.clearFormerlyUsed() for why this is safe).
+     * Each entry is moved to the first free slot of its probe sequence, which is either
+     * its own slot or one that the walk has already gone past.
+     */
+    private void clearFormerlyUsed()
+    {
+        long startTime = (stats != null) ? System.nanoTime() : 0;
+
+        int start = DSATablePolicy.clearFormerlyUsed(states);
+        if (stats != null)
+        {
+            stats.recordClearedSlots(formerlyUsed);
+        }
+        formerlyUsed = 0;
+
+        for (int j = 1; j < states.length; j++)
+        {
+            int i = (start + j) & mask;
+            if (states[i] == USED)
+            {
+                states[i] = NEVER_USED;
+                count--;
+                int slot = takeFreeSlot(hashAt(i));
+                if (slot != i)
+                {
+                    moveEntry(i, slot);
+                }
+            }
+        }
+
+        if (stats != null)
+        {
+            stats.recordClear(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Resize the table if the load factor is too high or too low.
+     */
+    private void resize(int newSize)
+    {
+        long startTime = (stats != null) ? System.nanoTime() : 0;
+        byte[] oldStates = states;
+
+        // Reset everything
+        if (stats != null)
+        {
+            stats.recordClearedSlots(formerlyUsed);  // The new arrays have no removed slots
+        }
+        states = new byte[newSize];
+        mask = newSize - 1;
+        count = 0;
+        formerlyUsed = 0;
+
+        // Re-insert every entry to the new table
+        moveEntries(oldStates, newSize);
+
+        if (stats != null)
+        {
+            stats.recordResize(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Mixes the bits of an int key so that consecutive keys (the IDs) are spread over the table
+     */
+    protected static int hashInt(int key)
+    {
+        int h = key * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * The iterator implementation, walks through the values straight over the slots and
+     * skips the slots that are not in use.
+     * The remove operation is not supported.
+     */
+    protected class DSASlotIterator implements Iterator, Serializable
+    {
+        private int current;  // The slot of the next value
+
+        public DSASlotIterator()
+        {
+            current = 0;
+            skipUnused();
+        }
+
+        public boolean hasNext()
+        {
+            return current < states.length;
+        }
+
+        // Remove operation is not supported
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Not supported operation.");
+        }
+
+        // Returns the current value and point to the next value
+        public Object next()
+        {
+            Object outItem = null;
+            if (hasNext())
+            {
+                outItem = valueAt(current);
+                current++;
+                skipUnused();
+            }
+
+            return outItem;
+        }
+
+        private void skipUnused()
+        {
+            while (current < states.length && states[current] != USED)
+            {
+                current++;
+            }
+        }
+    }
+}
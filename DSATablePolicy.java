@@ -0,0 +1,186 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSATablePolicy.java
+ * Date modified: 18/10/2026
+ * Purpose:     The sizing and clearing rules shared by all the hash tables (DSAHashTable, DSAIntHashTable
+ * and DSAIntIntHashTable), so the three of them always grow, shrink and clear their removed slots
+ * at the same points. The tables keep their own arrays and only ask this class what to do:
+ * - The table size is always a power of two
+ * - The table doubles when it is more than 60% full and shrinks when it is less than 12.5% full,
+ *   and both leave the table at most 30% full
+ * - The removed slots are cleared when, together with the entries, they fill more than 60% of the
+ *   table, or when they alone take up more than 25% of it
+ */
+public class DSATablePolicy
+{
+    /**
+     * All the states that a slot can have
+     */
+    public static final byte NEVER_USED = 0;
+    public static final byte USED = 1;
+    public static final byte FORMERLY_USED = -1;
+
+    /**
+     * Checks the size asked for a new table and returns the actual size (the next power of two).
+     *
+     * @param tableSize - The size asked for
+     * @return - The actual table size
+     */
+    public static int initialSize(int tableSize)
+    {
+        // The table must have at least 1 element
+        if (tableSize < 1 || tableSize > DSAHashTable.MAX_TABLE_SIZE)
+        {
+            throw new IllegalArgumentException("Invalid table size.");
+        }
+
+        return nextPowerOfTwo(tableSize);
+    }
+
+    /**
+     * Returns the smallest table size (a power of two) that holds the given number of entries
+     * without going over the maximum load factor.
+     *
+     * @param expectedEntries - The number of entries
+     * @return - The table size
+     */
+    public static int tableSizeFor(int expectedEntries)
+    {
+        if (expectedEntries < 0 || expectedEntries > DSAHashTable.MAX_LOAD_FACTOR * DSAHashTable.MAX_TABLE_SIZE)
+        {
+            throw new IllegalArgumentException("Invalid number of entries.");
+        }
+
+        return Math.max(DSAHashTable.DEFAULT_TABLE_SIZE,
+                nextPowerOfTwo((int) Math.ceil(expectedEntries / DSAHashTable.MAX_LOAD_FACTOR)));
+    }
+
+    /**
+     * Returns the smallest power of two that is not less than the given number
+     */
+    public static int nextPowerOfTwo(int number)
+    {
+        return (number <= 1) ? 1 : Integer.highestOneBit(number - 1) << 1;
+    }
+
+    /**
+     * Returns the size the table has to grow to after an entry was put into it.
+     * If the table is over the maximum load factor, it doubles (more than once only if it was
+     * made far too small), otherwise the size stays the same.
+     *
+     * @param count     - The number of entries in the table
+     * @param tableSize - The current table size
+     * @return - The new table size, or the current one if the table does not need to grow
+     */
+    public static int grownSize(int count, int tableSize)
+    {
+        int newSize = tableSize;
+        if (count > DSAHashTable.MAX_LOAD_FACTOR * tableSize)
+        {
+            newSize = tableSize * 2;
+            while (newSize < DSAHashTable.MAX_TABLE_SIZE && count > DSAHashTable.MAX_LOAD_FACTOR * newSize)
+            {
+                newSize *= 2;
+            }
+        }
+
+        return newSize;
+    }
+
+    /**
+     * Returns the size the table has to shrink to after an entry was removed from it.
+     * If the table is under the minimum load factor, it halves until it is back to the target load factor,
+     * but never below the default size.
+     *
+     * @param count     - The number of entries in the table
+     * @param tableSize - The current table size
+     * @return - The new table size, or the current one if the table does not need to shrink
+     */
+    public static int shrunkSize(int count, int tableSize)
+    {
+        int newSize = tableSize;
+        if (tableSize > DSAHashTable.DEFAULT_TABLE_SIZE && (double) count / (double) tableSize < DSAHashTable.MIN_LOAD_FACTOR)
+        {
+            newSize = tableSize / 2;
+            while (newSize > DSAHashTable.DEFAULT_TABLE_SIZE && count <= DSAHashTable.TARGET_LOAD_FACTOR * (newSize / 2))
+            {
+                newSize /= 2;
+            }
+        }
+
+        return newSize;
+    }
+
+    /**
+     * Checks if the removed slots have to be cleared after an entry was put into a table that
+     * did not need to grow: the slots in use are fine but the ones left behind by removed entries
+     * leave too few NEVER_USED slots to end the probe sequences.
+     *
+     * @param count        - The number of entries in the table
+     * @param formerlyUsed - The number of slots left behind by removed entries
+     * @param tableSize    - The table size
+     * @return - true if the removed slots have to be cleared
+     */
+    public static boolean needsClearAfterPut(int count, int formerlyUsed, int tableSize)
+    {
+        return count + formerlyUsed > DSAHashTable.MAX_LOAD_FACTOR * tableSize;
+    }
+
+    /**
+     * Checks if the removed slots have to be cleared after an entry was removed from a table that
+     * did not need to shrink: too many slots are left behind and the searches get slow.
+     *
+     * @param formerlyUsed - The number of slots left behind by removed entries
+     * @param tableSize    - The table size
+     * @return - true if the removed slots have to be cleared
+     */
+    public static boolean needsClearAfterRemove(int formerlyUsed, int tableSize)
+    {
+        return formerlyUsed > DSAHashTable.MAX_FORMERLY_USED * tableSize;
+    }
+
+    /**
+     * Returns the result of a probe sequence that did not find its key: -(slot + 1) where slot is
+     * the first FORMERLY_USED slot on the way, or the NEVER_USED slot that ended the sequence.
+     *
+     * @param endSlot  - The NEVER_USED slot that ended the probe sequence
+     * @param freeSlot - The first FORMERLY_USED slot on the way, -1 if there is none
+     * @return - The (negative) result of the probe
+     */
+    public static int notFound(int endSlot, int freeSlot)
+    {
+        return -(((freeSlot == -1) ? endSlot : freeSlot) + 1);
+    }
+
+    /**
+     * First step of clearing the removed slots of a table without making new arrays.
+     * The FORMERLY_USED slots become NEVER_USED, which may cut the probe sequences of some entries,
+     * so the table then has to take every entry out and insert it again, walking around the table
+     * from the returned slot, which was already NEVER_USED. No probe sequence goes past that slot,
+     * so an entry is only ever moved back towards its home slot, into a slot that the walk has
+     * already gone past.
+     *
+     * @param states - The states of the slots of the table
+     * @return - The slot to start walking from
+     */
+    public static int clearFormerlyUsed(byte[] states)
+    {
+        // Find a slot that was never used (there is always one as the table is never full)
+        int start = 0;
+        while (states[start] != NEVER_USED)
+        {
+            start++;
+        }
+
+        for (int i = 0; i < states.length; i++)
+        {
+            if (states[i] == FORMERLY_USED)
+            {
+                states[i] = NEVER_USED;
+            }
+        }
+
+        return start;
+    }
+}
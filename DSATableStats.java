@@ -0,0 +1,218 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   DSATableStats.java
+ * Date modified: 18/10/2026
+ * Purpose:     Optional statistics about the hash tables, used to check how well the hashing
+ * works on real data. The statistics are kept per role of the tables (e.g. the people index of the
+ * network, the posts of each person, the people each person follows, the likes of each post), all
+ * the tables with the same role add to the same DSATableStats (see forRole()), so the report shows
+ * which kind of table misbehaves. Tables made without a role share one per class of table.
+ * The statistics are:
+ * - A histogram of the probe lengths (the number of slots looked at to find a key or a free slot)
+ * - The number of slots left behind by removed entries, and how many of them were reused by a new
+ *   entry or cleared (by an in-place clear or a resize)
+ * - The number of resizes and in-place clears of the removed slots, and the time spent on them
+ * Nothing is recorded unless the statistics are turned on (with enable()), the counters are
+ * atomic so the tables can be used from several threads.
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class DSATableStats
+{
+    public static final int HISTOGRAM_SIZE = 16;  // Probe lengths of 16 and more share the last bucket
+
+    // Record the statistics or not, only set by enable() before any table or thread is made
+    private static boolean enabled = false;
+    private static DSALinkedList allStats = new DSALinkedList();  // All the statistics made, for the report
+
+    private String role;  // What the tables are used for
+    private AtomicLongArray probeHistogram;  // The number of probes of each length (index 0 is length 1)
+    private AtomicLong probeCount;   // The number of probes
+    private AtomicLong probeTotal;   // The sum of all the probe lengths
+    private AtomicLong removedSlots;  // The number of slots left behind by removed entries
+    private AtomicLong reusedSlots;   // The number of those slots taken again by a new entry
+    private AtomicLong clearedSlots;  // The number of those slots cleared by an in-place clear or a resize
+    private AtomicLong resizeCount;
+    private AtomicLong resizeNanos;
+    private AtomicLong clearCount;   // The number of in-place clears of the removed slots
+    private AtomicLong clearNanos;
+
+    /**
+     * Constructor.
+     * Creates empty statistics for a role of hash table, use forRole() to share them between the tables.
+     *
+     * @param inRole - What the tables are used for
+     */
+    public DSATableStats(String inRole)
+    {
+        role = inRole;
+        probeHistogram = new AtomicLongArray(HISTOGRAM_SIZE);
+        probeCount = new AtomicLong();
+        probeTotal = new AtomicLong();
+        removedSlots = new AtomicLong();
+        reusedSlots = new AtomicLong();
+        clearedSlots = new AtomicLong();
+        resizeCount = new AtomicLong();
+        resizeNanos = new AtomicLong();
+        clearCount = new AtomicLong();
+        clearNanos = new AtomicLong();
+
+        synchronized (allStats)
+        {
+            allStats.insertLast(this);
+        }
+    }
+
+    /**
+     * Returns the statistics of the tables with the given role, made the first time the role is used.
+     *
+     * @param inRole - What the tables are used for
+     * @return - The statistics shared by all the tables with this role
+     */
+    public static DSATableStats forRole(String inRole)
+    {
+        DSATableStats found = null;
+        synchronized (allStats)
+        {
+            for (Object item : allStats)
+            {
+                DSATableStats stats = (DSATableStats) item;
+                if (found == null && stats.role.equals(inRole))
+                {
+                    found = stats;
+                }
+            }
+        }
+
+        return (found == null) ? new DSATableStats(inRole) : found;
+    }
+
+    /**
+     * Turns on the statistics for all the hash tables.
+     * This must be done before any table is made and before any thread is started (it is done while
+     * reading the command line), so the flag does not need to be volatile: starting a thread makes it
+     * visible to that thread. A table made while the statistics are off never records anything.
+     */
+    public static void enable()
+    {
+        enabled = true;
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns the statistics of all the kinds of hash table that have been used.
+     *
+     * @return - A string containing the statistics
+     */
+    public static String report()
+    {
+        String str = "";
+        synchronized (allStats)
+        {
+            for (Object item : allStats)
+            {
+                str += item.toString() + "\n";
+            }
+        }
+
+        return str;
+    }
+
+    /**
+     * Records one probe sequence
+     *
+     * @param length - The number of slots looked at
+     */
+    public void recordProbe(int length)
+    {
+        probeHistogram.incrementAndGet(Math.min(length, HISTOGRAM_SIZE) - 1);
+        probeCount.incrementAndGet();
+        probeTotal.addAndGet(length);
+    }
+
+    /**
+     * Records a slot left behind by a removed entry
+     */
+    public void recordRemovedSlot()
+    {
+        removedSlots.incrementAndGet();
+    }
+
+    /**
+     * Records a slot left behind by a removed entry that was taken again by a new entry
+     */
+    public void recordReusedSlot()
+    {
+        reusedSlots.incrementAndGet();
+    }
+
+    /**
+     * Records the slots left behind by removed entries that were cleared by an in-place clear or a resize
+     *
+     * @param num - The number of slots cleared
+     */
+    public void recordClearedSlots(int num)
+    {
+        clearedSlots.addAndGet(num);
+    }
+
+    /**
+     * Records a resize of a table
+     *
+     * @param nanos - The time spent on the resize, in nanoseconds
+     */
+    public void recordResize(long nanos)
+    {
+        resizeCount.incrementAndGet();
+        resizeNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Records an in-place clear of the removed slots of a table
+     *
+     * @param nanos - The time spent on the clear, in nanoseconds
+     */
+    public void recordClear(long nanos)
+    {
+        clearCount.incrementAndGet();
+        clearNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Returns the statistics in a readable format
+     *
+     * @return - A string containing the statistics
+     */
+    public String toString()
+    {
+        long probes = probeCount.get();
+        String str = "";
+        str += "==> Hash table statistics (" + role + "):\n";
+        str += String.format("*** Probes: %d - Average length: %.2f\n", probes,
+                (probes == 0) ? 0.0 : (double) probeTotal.get() / probes);
+        str += "*** Probe lengths:";
+        for (int i = 0; i < HISTOGRAM_SIZE; i++)
+        {
+            long num = probeHistogram.get(i);
+            if (num > 0)
+            {
+                String length = (i == HISTOGRAM_SIZE - 1) ? HISTOGRAM_SIZE + "+" : Integer.toString(i + 1);
+                str += String.format(" %s: %d (%.1f%%)", length, num, 100.0 * num / probes);
+            }
+        }
+        str += "\n";
+        str += String.format("*** Resizes: %d (%.2f ms)\n", resizeCount.get(), resizeNanos.get() / 1e6);
+        str += String.format("*** In-place clears of removed slots: %d (%.2f ms)\n", clearCount.get(), clearNanos.get() / 1e6);
+        str += String.format("*** Removed slots: %d made - %d reused - %d cleared\n",
+                removedSlots.get(), reusedSlots.get(), clearedSlots.get());
+
+        return str;
+    }
+}
@@ -9,10 +9,19 @@
  * - Save network to object file (in interactive mode)
  * - Read and construct network from network file (in simulation mode)
  * - Read and perform events from event file (in simulation mode)
+ * The event file can also be read as a pipeline of three threads: a reader thread splits the lines
+ * into event records, an apply thread performs the events on the network (one at a time, in order)
+ * and the calling thread writes the messages of each event to the log. The threads are connected by
+ * bounded queues so reading the file, simulating and writing the log overlap, and the log is exactly
+ * the same as when the file is read on one thread.
+ * The messages of an event are formatted on the apply thread, while it performs the event, and the
+ * calling thread only writes the finished text: the spread of a post prints its messages as it goes,
+ * so formatting them anywhere else would mean keeping a record of every like and follow.
  */
 
 import java.io.*;
 import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
 
 public class FileIO
 {
@@ -25,6 +34,11 @@ public class FileIO
     public static final char UNFOLLOW = 'U';   // A person unfollows another person
     public static final char REMOVE = 'R';     // Remove a person from the network
 
+    public static final int PIPELINE_CAPACITY = 1024;  // The number of events (or messages) waiting between two threads
+
+    private static final DSAEvent END_OF_EVENTS = new DSAEvent(null, null);  // Marks the end of the event file
+    private static final Object END_OF_MESSAGES = new Object();  // Marks the end of the messages to the log
+
     /**
      * Load the network from an object file when given the file name
      *
@@ -195,7 +209,7 @@ public class FileIO
                 try
                 {
                     // Process each line and take proper action
-                    processEventLine(network, line, pw);
+                    processEventLine(network, line, line.split(":"), pw);
 
                 }
                 catch (IllegalArgumentException e)
@@ -227,6 +241,83 @@ public class FileIO
         }
     }
 
+    /**
+     * Reads the event file and makes proper changes to the given network using a pipeline of threads:
+     * the lines are read and split on a reader thread, the events are performed on an apply thread
+     * and the messages are written to the log on the calling thread.
+     * The events are performed in the same order as in the file, so the log is the same as the one
+     * from readEventFile.
+     *
+     * @param network  - The network to be updated
+     * @param filename - The name of the event file
+     * @param pw       - The PrintWriter object to prints the proper message to indicate the action taken
+     */
+    public static void readEventFilePipelined(Network network, String filename, PrintWriter pw)
+    {
+        BufferedReader bufferedReader;
+
+        try
+        {
+            bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(filename)));
+        }
+        catch (FileNotFoundException e)
+        {
+            throw new IllegalArgumentException("Event file not found");
+        }
+
+        ArrayBlockingQueue<DSAEvent> events = new ArrayBlockingQueue<DSAEvent>(PIPELINE_CAPACITY);
+        ArrayBlockingQueue<Object> messages = new ArrayBlockingQueue<Object>(PIPELINE_CAPACITY);
+        DSAEventReader reader = new DSAEventReader(bufferedReader, events);
+        DSAEventApplier applier = new DSAEventApplier(network, events, messages);
+        Thread readerThread = new Thread(reader, "event-reader");
+        Thread applyThread = new Thread(applier, "event-applier");
+
+        readerThread.start();
+        applyThread.start();
+
+        try
+        {
+            // Write the messages of each event to the log until the apply thread has finished
+            Object message = messages.take();
+            while (message != END_OF_MESSAGES)
+            {
+                pw.print((String) message);
+                message = messages.take();
+            }
+
+            applyThread.join();
+            // After an Error the apply thread stops taking the events, the reader may be waiting for room
+            if (applier.getError() instanceof Error)
+            {
+                readerThread.interrupt();
+            }
+            readerThread.join();
+        }
+        catch (InterruptedException e)
+        {
+            readerThread.interrupt();
+            applyThread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("Interrupted when reading the event file");
+        }
+
+        Throwable error = applier.getError();
+        if (error instanceof Error)
+        {
+            throw (Error) error;
+        }
+
+        if (reader.hasFailed())
+        {
+            throw new IllegalArgumentException("Error when reading the event file");
+        }
+
+        if (error != null)
+        {
+            throw (RuntimeException) error;
+        }
+    }
+
     /**
      * Generate a log file name base on the current date time and the names of the
      * network file and the event file.
@@ -253,6 +344,28 @@ public class FileIO
         return logfile;
     }
 
+    /**
+     * Prints the statistics about the k most popular people and the k most popular posts
+     * in the network to a file (used at the end of a simulation).
+     *
+     * @param network - The network
+     * @param k       - The number of people (and posts) to print
+     * @param pw      - The PrintWriter object used to print the information
+     */
+    public static void printTopStats(Network network, int k, PrintWriter pw)
+    {
+        try
+        {
+            pw.println("\n==> Top " + k + " people and posts at the end of the simulation:\n");
+            pw.println(network.displayTopStats(k));
+        }
+        // If the network is empty at the end of the simulation
+        catch (IllegalArgumentException e)
+        {
+            pw.println("!!! " + e.getMessage());
+        }
+    }
+
     /**
      * Process each line in the network file and make proper changes to the given network
      *
@@ -299,15 +412,14 @@ public class FileIO
      *
      * @param network - The network
      * @param line    - The line in the network file
+     * @param infos   - The line split into its fields
      * @param pw      - The PrintWriter object to prints the proper message to indicate the action taken
      *                This parameter is used in simulation mode (when we want to output the message to a file)
      *                In simulation mode, this parameter is null to indicate that all the messages will be
      *                displayed on the terminal.
      */
-    private static void processEventLine(Network network, String line, PrintWriter pw)
+    private static void processEventLine(Network network, String line, String[] infos, PrintWriter pw)
     {
-        String[] infos = line.split(":");
-
         // If the first elements has more than 1 character => incorrect format
         if (infos[0].length() != 1)
         {
@@ -449,7 +561,7 @@ public class FileIO
     private static void printPopPersonInfo(Network network, PrintWriter pw)
     {
         Person mostPopPer = network.mostPopPerson();  // Get the most popular person
-        DSALinkedList followers = null;
+        DSAOrderedSet followers = null;
         // Output the information of the person
         // This includes:
         // - The name
@@ -506,4 +618,156 @@ public class FileIO
             pw.println("==> No posts in the network.");
         }
     }
+
+    /**
+     * A line of the event file, split into its fields by the reader thread.
+     */
+    private static class DSAEvent
+    {
+        private String line;
+        private String[] infos;
+
+        public DSAEvent(String inLine, String[] inInfos)
+        {
+            line = inLine;
+            infos = inInfos;
+        }
+    }
+
+    /**
+     * The first stage of the pipeline, reads the event file and splits each line into an event.
+     * The end of the file (or a reading error) is marked by END_OF_EVENTS.
+     */
+    private static class DSAEventReader implements Runnable
+    {
+        private BufferedReader bufferedReader;
+        private ArrayBlockingQueue<DSAEvent> events;
+        private volatile boolean failed;  // Set if the file could not be read to the end
+
+        public DSAEventReader(BufferedReader inReader, ArrayBlockingQueue<DSAEvent> inEvents)
+        {
+            bufferedReader = inReader;
+            events = inEvents;
+            failed = false;
+        }
+
+        public boolean hasFailed()
+        {
+            return failed;
+        }
+
+        public void run()
+        {
+            try
+            {
+                try
+                {
+                    String line = bufferedReader.readLine();
+                    while (line != null)
+                    {
+                        events.put(new DSAEvent(line, line.split(":")));
+                        line = bufferedReader.readLine();
+                    }
+                }
+                catch (IOException e)
+                {
+                    failed = true;
+                }
+
+                events.put(END_OF_EVENTS);
+            }
+            catch (InterruptedException e)
+            {
+                failed = true;
+            }
+
+            try
+            {
+                bufferedReader.close();
+            }
+            catch (IOException e)
+            {
+            }
+        }
+    }
+
+    /**
+     * The second stage of the pipeline, performs the events on the network one at a time and
+     * passes the messages of each event on to the log.
+     * If an event fails unexpectedly, the rest of the events are skipped (but still taken from the
+     * queue so the reader thread is not blocked) and the error is kept for the calling thread.
+     * If the thread fails with an Error (e.g out of memory), it stops taking the events, the calling
+     * thread stops the reader thread and throws the Error again.
+     * The end of the messages is always passed on, so the calling thread never waits forever.
+     */
+    private static class DSAEventApplier implements Runnable
+    {
+        private Network network;
+        private ArrayBlockingQueue<DSAEvent> events;
+        private ArrayBlockingQueue<Object> messages;
+        private volatile Throwable error;  // The unexpected error, null if there is none
+
+        public DSAEventApplier(Network inNetwork, ArrayBlockingQueue<DSAEvent> inEvents, ArrayBlockingQueue<Object> inMessages)
+        {
+            network = inNetwork;
+            events = inEvents;
+            messages = inMessages;
+            error = null;
+        }
+
+        public Throwable getError()
+        {
+            return error;
+        }
+
+        public void run()
+        {
+            try
+            {
+                DSAEvent event = events.take();
+                while (event != END_OF_EVENTS)
+                {
+                    if (error == null)
+                    {
+                        StringWriter buffer = new StringWriter();
+                        PrintWriter out = new PrintWriter(buffer);
+                        try
+                        {
+                            processEventLine(network, event.line, event.infos, out);
+                        }
+                        catch (IllegalArgumentException e)
+                        {
+                            out.println("\n!!! " + e.getMessage());
+                        }
+                        catch (RuntimeException e)
+                        {
+                            error = e;
+                        }
+                        out.flush();
+                        messages.put(buffer.toString());
+                    }
+                    event = events.take();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                error = new IllegalArgumentException("Interrupted when performing the events");
+            }
+            catch (Error e)
+            {
+                error = e;
+            }
+            finally
+            {
+                try
+                {
+                    messages.put(END_OF_MESSAGES);
+                }
+                catch (InterruptedException e)
+                {
+                    // Only the calling thread interrupts this thread, once it has stopped taking the messages
+                }
+            }
+        }
+    }
 }
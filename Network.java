@@ -11,22 +11,72 @@
  * To spread the post across the network, we use breadth first search algorithm to bring it
  * to all the followers, if the followers decide to like the post, we bring the post to the
  * followers of that follower (bring it 1 level further from the source).
+ * Each Person also gets a dense integer ID when added to the network. The spreading
+ * works on a compressed sparse row (CSR) snapshot of the follower lists indexed by these IDs.
+ * The snapshot is built on the first spread and then patched when people follow/unfollow or are
+ * added/removed: only the row of the person whose followers changed is touched, a new follower is put
+ * at the end of the row and a row that runs out of room moves to the end of the snapshot with more room.
+ * It is only built again when the rows left behind by these moves take up more than half of it.
+ * The spreading can also be done in parallel: each level of the breadth first search (the frontier)
+ * is split across the threads of a ForkJoinPool, the people are claimed atomically and all the likes
+ * and follows of a level are applied (on one thread) at the end of that level.
+ * All the random decisions (like/follow) come from one random number generator owned by the network,
+ * created from a seed, so the same seed gives the same simulation. Each spread takes one random key from
+ * the generator and every decision is worked out from that key and the follower link it is made on,
+ * so the sequential and the parallel spreads make the same decisions and give the same result.
  */
 
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class Network implements Serializable
 {
     public static final double DEFAULT_LIKE_PROB = 0.5;  // The default value for like prob
     public static final double DEFAULT_FOLLOW_PROB = 0.5;  // Default value for follow prob
+    public static final int SPREAD_GRAIN = 4096;  // The number of followers one thread handles at a time in parallel spreads
+    private static final int LIKE_DRAW = 0;    // The random number of a link used to decide a like
+    private static final int FOLLOW_DRAW = 1;  // The random number of a link used to decide a follow
+    private static final int MIN_ROW_ROOM = 4;  // The least room given to a row of the snapshot when it moves
 
     private DSALinkedList people;   // The people in the network
+    private DSAHashTable peopleIndex;  // Name -> Person index, kept in sync with the people list
+    private DSARankList popularity;  // The people ranked by their number of followers, updated on every follow/unfollow
+    private DSARankList postRanking;  // All the posts ranked by their number of likes, updated on every like
     private double likeProb;    // The probability of liking a post
     private double followProb;  // The probability of following a person
     private int peopleNum;    // The number of people in the network
+    private int nextID;   // The vertex ID given to the next person added to the network
+    private boolean parallelSpread;  // Spread the posts using several threads or not
+    private long seed;  // The seed of the random number generator
+
+    // The follower snapshot used to spread posts (compressed sparse row format, patched in place).
+    // The followers of the person with ID i are followerTargets[followerStarts[i] .. followerStarts[i] + followerCounts[i] - 1]
+    // in the same order as in the follower set of that person, and the row has room for followerRooms[i] followers.
+    // These are not serialized, the snapshot is rebuilt on the first spread after loading.
+    private transient Person[] vertices;  // Person by vertex ID (null if the person was removed)
+    private transient int[] followerStarts;
+    private transient int[] followerCounts;
+    private transient int[] followerRooms;
+    private transient int[] followerTargets;
+    private transient int targetsEnd;   // The first position of followerTargets after the last row
+    private transient int wastedLinks;  // The positions of followerTargets left behind by rows that moved or were dropped
+    private transient boolean snapshotValid;  // False if there is no snapshot or it has to be built again
+
+    // Instead of a visited flag in every Person (which needs a full sweep to reset after each spread),
+    // every spread gets a new number and a person is visited if his/her mark equals the current number.
+    private transient int[] visitMark;   // The number of the last spread that reached each person (by ID)
+    private transient int spreadNum;     // The number of the current spread
+    private transient DSAIntQueue spreadQueue; // The breadth first search queue (of IDs), reused by every spread
+    private transient long spreadKey;    // The random key of the current spread, all its decisions come from it
+    private transient AtomicLongArray claimMark;  // The level and the first position in it where each person was claimed (parallel spreads)
+    private transient int levelNum;      // The number of the current level of the parallel spreads
+    private transient SplittableRandom random;  // The random number generator (not serializable, made again from the seed)
 
     // Assume the update() method only runs with the most recent post and post-er
     private Person mostRecentPoster;   // The most recent person who posted a post
@@ -39,10 +89,17 @@ public class Network implements Serializable
     public Network()
     {
         people = new DSALinkedList();
+        peopleIndex = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Network people index");
+        popularity = new DSARankList();
+        postRanking = new DSARankList();
         // If the probabilities are not provided, set them to 0.5
         likeProb = DEFAULT_LIKE_PROB;
         followProb = DEFAULT_FOLLOW_PROB;
         peopleNum = 0;
+        nextID = 0;
+        parallelSpread = false;
+        setSeed(new SplittableRandom().nextLong());  // A different simulation every time unless a seed is given
+        snapshotValid = false;
         mostRecentPost = null;
         mostRecentPoster = null;
     }
@@ -67,9 +124,16 @@ public class Network implements Serializable
         }
 
         people = new DSALinkedList();
+        peopleIndex = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Network people index");
+        popularity = new DSARankList();
+        postRanking = new DSARankList();
         likeProb = inLikeProb;
         followProb = inFollowProb;
         peopleNum = 0;
+        nextID = 0;
+        parallelSpread = false;
+        setSeed(new SplittableRandom().nextLong());  // A different simulation every time unless a seed is given
+        snapshotValid = false;
         mostRecentPost = null;
         mostRecentPoster = null;
     }
@@ -85,27 +149,26 @@ public class Network implements Serializable
         return likeProb;
     }
 
+    public boolean isParallelSpread()
+    {
+        return parallelSpread;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
     // This getter returns a queue that contains all the people in descending order of
     // popularity. (i.e The person with the most followers will appear first in the queue
     public DSAQueue getPeople()
     {
-        // Continuously adding people to a heap using the number of followers of the priority
-        // Since the heap is a max heap, the person at the root of the heap will be the most
-        // popular in the network
-        DSAHeap heap = new DSAHeap(peopleNum);
-        DSAQueue queue = new DSAQueue();
-
-        for (Object item : people)
-        {
-            Person person = (Person) item;
-            heap.add(person.getFollowerCount(), person);
-        }
+        // The popularity ranking is always kept in sorted order, just copy it to the queue
+        DSAQueue queue = new DSAQueue(Math.max(1, popularity.count()));
 
-        // Removing person from the heap and add to the queue
-        // After this process, the queue will be in sorted order (in terms of popularity)
-        while (!heap.isEmpty())
+        for (Object item : popularity)
         {
-            queue.enqueue(heap.remove());
+            queue.enqueue(item);
         }
 
         return queue;
@@ -115,35 +178,42 @@ public class Network implements Serializable
     // All the posts in the queue are stored in descending order of their popularity (the number of likes)
     public DSAQueue getPosts()
     {
-        // Continuously adding posts to a heap using the number of followers of the priority
-        // Since the heap is a max heap, the post at the root of the heap will be the most
-        // popular in the network
-        DSAQueue posts = new DSAQueue();
-        DSAHeap heap = new DSAHeap(getPostsCount());
-
-        for (Object item : people)
-        {
-            Person person = (Person) item;
-            if (person.hasAnyPosts())
-            {
-                for (Object postItem : person.getPosts())
-                {
-                    Post post = (Post) postItem;
-                    heap.add(post.getLikeCount(), post);
-                }
-            }
-        }
+        // The post ranking is always kept in sorted order, just copy it to the queue
+        DSAQueue posts = new DSAQueue(Math.max(1, postRanking.count()));
 
-        // Removing person from the heap and add to the queue
-        // After this process, the queue will be in sorted order (in terms of popularity)
-        while (!heap.isEmpty())
+        for (Object item : postRanking)
         {
-            posts.enqueue(heap.remove());
+            posts.enqueue(item);
         }
 
         return posts;
     }
 
+    /**
+     * Returns the k most popular people in the network (in descending order of popularity).
+     * If there are less than k people in the network, all of them are returned.
+     * The ranking is always sorted, so this only walks the first k people (O(k)).
+     *
+     * @param k - The number of people wanted
+     * @return - A queue containing the k most popular people
+     */
+    public DSAQueue topPeople(int k)
+    {
+        return topOf(popularity, k);
+    }
+
+    /**
+     * Returns the k most popular posts in the network (in descending order of the number of likes).
+     * If there are less than k posts in the network, all of them are returned.
+     *
+     * @param k - The number of posts wanted
+     * @return - A queue containing the k most popular posts
+     */
+    public DSAQueue topPosts(int k)
+    {
+        return topOf(postRanking, k);
+    }
+
     /**
      * Returns the most popular person in the network.
      * If the network is empty, returns null.
@@ -153,10 +223,11 @@ public class Network implements Serializable
     public Person mostPopPerson()
     {
         Person person = null;
-        DSAQueue queue = getPeople();  // Get all people in descending order of their popularity
-        if (!queue.isEmpty())
+
+        // The most popular person is always at the front of the ranking
+        if (!popularity.isEmpty())
         {
-            person = (Person) queue.dequeue();
+            person = (Person) popularity.peekFirst();
         }
 
         return person;
@@ -171,16 +242,29 @@ public class Network implements Serializable
     public Post mostPopPost()
     {
         Post post = null;
-        DSAQueue queue = getPosts();  // Get all the posts in descending order of popularity
-        if (!queue.isEmpty())
+
+        // The most popular post is always at the front of the ranking
+        if (!postRanking.isEmpty())
         {
-            // The post in the front of the queue will be the most popular one
-            post = (Post) queue.dequeue();
+            post = (Post) postRanking.peekFirst();
         }
 
         return post;
     }
 
+    // Turn the parallel spreading on or off
+    public void setParallelSpread(boolean inParallelSpread)
+    {
+        parallelSpread = inParallelSpread;
+    }
+
+    // Change the seed of the random number generator, the random numbers start again from this seed
+    public void setSeed(long inSeed)
+    {
+        seed = inSeed;
+        random = new SplittableRandom(seed);
+    }
+
     // Change the probability of liking a post
     public void setLikeProb(double inLikeProb)
     {
@@ -216,11 +300,16 @@ public class Network implements Serializable
     public void addPerson(String name)
     {
         // 2 people in the network cannot have the same names
-        if (!hasPerson(name))
+        // Checks the name before making the person, so a duplicate name makes nothing
+        if (peopleIndex.getOrNull(name) == null)
         {
-            Person newPerson = new Person(name);
+            Person newPerson = new Person(name, nextID);
+            peopleIndex.put(name, newPerson);
             people.insertLast(newPerson);
+            newPerson.enterRanking(popularity);
             peopleNum++;
+            nextID++;
+            snapshotAddPerson(newPerson);
         }
         else
         {
@@ -243,20 +332,20 @@ public class Network implements Serializable
         {
             if (person.isFollowingAnyPerson())
             {
-                DSALinkedList following = person.getFollowing();  // The people this person is following
-
                 // Remove this person from the follower list of all the people
-                // that he/she is following
-                for (Object item : following)
+                // that he/she is following (this does not change who this person is following)
+                for (Object item : person.getFollowingView())
                 {
                     Person followed = (Person) item;
                     followed.removeFollower(person);
+                    snapshotCopyFollowers(followed);
                 }
             }
 
             if (person.hasAnyFollower())
             {
-                DSALinkedList followers = person.getFollowers();  // The people who follow this person
+                // The people who follow this person, copied because unfollowing changes the follower set
+                Object[] followers = person.getFollowers().toArray();
 
                 // Remove this person from the following list of all his/her followers
                 for (Object item : followers)
@@ -266,6 +355,16 @@ public class Network implements Serializable
                 }
             }
 
+            // The posts of this person are not in the network anymore
+            if (person.hasAnyPosts())
+            {
+                for (Object item : person.getPostsView())
+                {
+                    Post post = (Post) item;
+                    post.leaveRanking();
+                }
+            }
+
             DSALinkedList newList = new DSALinkedList();
             // Remove the person from the list of people in the network
             for (Object item : people)
@@ -277,6 +376,10 @@ public class Network implements Serializable
                 }
             }
             people = newList;
+            peopleIndex.removeKey(name);
+            person.leaveRanking();
+            peopleNum--;
+            snapshotRemovePerson(person);
         }
         else
         {
@@ -302,6 +405,7 @@ public class Network implements Serializable
 
         Post post = createPost(person, postContent);
         person.addPost(post);
+        post.enterRanking(postRanking);
         // Change the most recent post and the post-er
         mostRecentPost = post;
         mostRecentPoster = person;
@@ -330,6 +434,7 @@ public class Network implements Serializable
         }
 
         followerPer.follow(followedPer);
+        snapshotAddFollower(followedPer, followerPer);
     }
 
     /**
@@ -355,6 +460,7 @@ public class Network implements Serializable
         }
 
         followerPer.unfollow(followedPer);
+        snapshotCopyFollowers(followedPer);
     }
 
     /**
@@ -382,7 +488,7 @@ public class Network implements Serializable
             str += person.getName() + " --> ";
             if (person.hasAnyFollower())
             {
-                DSALinkedList followers = person.getFollowers();
+                DSAOrderedSet followers = person.getFollowers();
                 for (Object obj : followers)
                 {
                     Person follower = (Person) obj;
@@ -421,6 +527,31 @@ public class Network implements Serializable
         return str;
     }
 
+    /**
+     * Display the statistic about the k most popular people and the k most popular posts
+     * in the network.
+     *
+     * @param k - The number of people (and posts) to be displayed
+     * @return - A string representing all the necessary information
+     */
+    public String displayTopStats(int k)
+    {
+        String str = "";
+        // Cannot display the statistics of an empty network
+        if (people.isEmpty())
+        {
+            throw new IllegalArgumentException("The network is empty");
+        }
+
+        str += "**** DISPLAYING THE TOP " + k + " PEOPLE IN DESCENDING ORDER OF POPULARITY ****\n";
+        str += peopleStat(k);  // The statistics about the top people
+        str += "\n\n";
+        str += "**** DISPLAYING THE TOP " + k + " POSTS IN DECSCENDING ORDER OF POPULARITY ****\n";
+        str += postStats(k);  // The statistics about the top posts
+
+        return str;
+    }
+
     /**
      * Update the network after a post has been added.
      * This method will spreads the post across the network
@@ -440,7 +571,14 @@ public class Network implements Serializable
         {
             throw new IllegalArgumentException("There are no new posts");
         }
-        spreadPost(mostRecentPoster, mostRecentPost, step, clickBait, pw);  // Spread the post with STEP mode turned on
+        if (parallelSpread)
+        {
+            parallelSpreadPost(mostRecentPoster, mostRecentPost, step, clickBait, pw);
+        }
+        else
+        {
+            spreadPost(mostRecentPoster, mostRecentPost, step, clickBait, pw);  // Spread the post with STEP mode turned on
+        }
     }
 
     /**
@@ -460,30 +598,24 @@ public class Network implements Serializable
             throw new IllegalArgumentException("The network is empty");
         }
 
-        DSAQueue posts = getPosts(); // Get all the posts in ascending order of popularity
-        String str = "";
-        if (!posts.isEmpty())
-        {
-            // For each post, append its information to the returned string
-            // The information includes:
-            // - The person who posted it
-            // - The content of the post
-            // - The number of like of each post
-            for (Object item : posts)
-            {
-                Post post = (Post) item;
-                str += post.getOwner() + "\n";
-                str += post.toString() + "\n";
-                str += "Like: " + post.getLikeCount() + "\n";
-                str += "\n";
-            }
-        }
-        else
+        return formatPosts(getPosts()); // All the posts in descending order of popularity
+    }
+
+    /**
+     * Displays the statistic about the k most popular posts in the network.
+     *
+     * @param k - The number of posts to be displayed
+     * @return - The string representing the statistics about the posts.
+     */
+    public String postStats(int k)
+    {
+        // Cannot get statistics with an empty network
+        if (people.isEmpty())
         {
-            str = "There are no posts in the network";
+            throw new IllegalArgumentException("The network is empty");
         }
 
-        return str;
+        return formatPosts(topPosts(k));
     }
 
     /**
@@ -504,57 +636,23 @@ public class Network implements Serializable
         }
 
         // Get all the people in the network in descending order of popularity
-        DSAQueue queue = getPeople();
-        String str = "";
-        for (Object item : queue)
-        {
-            // For each person in the network, display the information of that person
-            // This includes:
-            // - The person'name
-            // - The number of followers
-            // - The name of people who follows the person
-            Person person = (Person) item;
-            str += person.getName() + "\n";
-            str += "Number of followers: " + person.getFollowerCount() + "\n";
-            str += "Follower: ";
-
-            // If this person has any followers
-            if (person.hasAnyFollower())
-            {
-                DSALinkedList followers = person.getFollowers();
-                for (Object obj : followers)
-                {
-                    Person follower = (Person) obj;
-                    str += follower.getName() + " ";
-                }
-                str += "\n";
-            }
-            else
-            {
-                str += "N/A\n";  // Otherwise, just say N/A
-            }
-
-            str += "Following: ";
-            // If this person is following any people
-            if (person.isFollowingAnyPerson())
-            {
-                DSALinkedList following = person.getFollowing();
-                for (Object obj : following)
-                {
-                    Person followed = (Person) obj;
-                    str += followed.getName() + " ";
-                }
-                str += "\n";
-            }
-            else
-            {
-                str += "N/A";
-            }
+        return formatPeople(getPeople());
+    }
 
-            str += "\n\n";
+    /**
+     * Display the statistics about the k most popular people in the network.
+     *
+     * @param k - The number of people to be displayed
+     * @return - The String representing the statistics
+     */
+    public String peopleStat(int k)
+    {
+        if (people.isEmpty())
+        {
+            throw new IllegalArgumentException("The network is empty");
         }
 
-        return str;
+        return formatPeople(topPeople(k));
     }
 
     /**
@@ -578,37 +676,16 @@ public class Network implements Serializable
     public Person findPerson(String name)
     {
         Person person = null;
-        boolean found = false;
-        Iterator iterator = people.iterator();
-
-        // While not found that person and haven't reached the end of the list
-        while (iterator.hasNext() && !found)
-        {
-            person = (Person) iterator.next();
-            found = person.getName().equals(name);
-        }
 
-        if (!found)
+        // Look the name up in the index instead of walking the whole list of people
+        if (name != null)
         {
-            person = null;
+            person = (Person) peopleIndex.getOrNull(name);
         }
 
         return person;
     }
 
-    // The total number of post in the network
-    private int getPostsCount()
-    {
-        int postCount = 0;
-        for (Object item : people)
-        {
-            Person person = (Person) item;
-            postCount += person.getPostCount();
-        }
-
-        return postCount;
-    }
-
     /**
      * Spreads a post across the network through the follower of the owner of the post.
      * If someone likes the post, prints a message indicates that event.
@@ -626,22 +703,30 @@ public class Network implements Serializable
         // Use the breadth first search algorithm to spread the post out
         Scanner sc = new Scanner(System.in);
         String continued = "";
-        owner.visit();  // A person cannot likes his/her own post
-        DSAQueue queue = new DSAQueue();
-        queue.enqueue(owner);
+
+        prepareSpread();
+        startSpread();
+
+        // Each person is enqueued at most once, so the queue (presized to the number of IDs) never has to grow
+        DSAIntQueue queue = spreadQueue;
+        queue.clear();
+        visitMark[owner.getID()] = spreadNum;  // A person cannot likes his/her own post
+        queue.enqueue(owner.getID());
 
         while (!queue.isEmpty() && continued.equals(""))
         {
-            Person current = (Person) queue.dequeue();
+            int current = queue.dequeue();
 
             // Show the post to every followers
-            for (Object neighbor : current.getFollowers())
+            // (the row is read as it was before the spread, a follow back may move the owner's row)
+            int rowEnd = followerStarts[current] + followerCounts[current];
+            for (int i = followerStarts[current]; i < rowEnd; i++)
             {
-                Person follower = (Person) neighbor;
+                Person follower = vertices[followerTargets[i]];
 
                 // If the follower has not seen the post before and decides to like it,
                 // show the post to all of his/her followers
-                if (follower.decideLike(likeProb * clickBait) && !follower.isVisited())
+                if (follower.decideLike(likeProb * clickBait, draw(i, LIKE_DRAW)) && visitMark[follower.getID()] != spreadNum)
                 {
                     if (pw != null)
                     {
@@ -651,13 +736,13 @@ public class Network implements Serializable
                     {
                         System.out.println("*** " + follower.getName() + " likes the post");
                     }
-                    queue.enqueue(follower);
-                    follower.visit();
+                    queue.enqueue(follower.getID());
+                    visitMark[follower.getID()] = spreadNum;
                     follower.likePost(post);
 
                     // If the follower is not following the owner and decides to follow the owner
                     // after liking the post
-                    if (!follower.isFollowing(owner.getName()) && follower.decideFollow(followProb * clickBait))
+                    if (!follower.isFollowing(owner) && follower.decideFollow(followProb * clickBait, draw(i, FOLLOW_DRAW)))
                     {
                         // If in simulation mode, all the message will be output to a file
                         if (pw != null)
@@ -671,6 +756,9 @@ public class Network implements Serializable
                         }
 
                         follower.follow(owner); // Perform the following operation
+                        // The owner is always the first one to be processed, and moving the owner's
+                        // row leaves the old one where it was, so the rest of this spread is not changed
+                        snapshotAddFollower(owner, follower);
                     }
                 }
             }
@@ -684,37 +772,741 @@ public class Network implements Serializable
         }
 
         // Reset the state of the network
-        resetVisited();
+        // (the visited marks do not need resetting, the next spread gets a new number)
         mostRecentPost = null;
         mostRecentPoster = null;
     }
 
     /**
-     * Create a post when given the name of the owner and the content
+     * Takes the first k items of a ranking.
      *
-     * @param owner   - The owner of the post
-     * @param content - The content of the post
-     * @return - The Post object
+     * @param ranking - The ranking
+     * @param k       - The number of items wanted, must be positive
+     * @return - A queue containing the first k items of the ranking
      */
-    private Post createPost(Person owner, String content)
+    private DSAQueue topOf(DSARankList ranking, int k)
     {
-        // Generate a new ID for the new post
-        // Assuming that a person cannot delete old posts
-        // Therefore, we can guarantee that post ID is always incremented
-        String id = Integer.toString(owner.getPostCount() + 1);
-        return new Post(id, owner.getName(), content);
+        if (k < 1)
+        {
+            throw new IllegalArgumentException("The number of items must be positive");
+        }
+
+        DSAQueue queue = new DSAQueue(Math.max(1, Math.min(k, ranking.count())));
+        Iterator iterator = ranking.iterator();
+        while (iterator.hasNext() && queue.count() < k)
+        {
+            queue.enqueue(iterator.next());
+        }
+
+        return queue;
     }
 
     /**
-     * Reset the state of the network, all the people in the network will
-     * be set to unvisited.
+     * Builds the statistics about the given posts.
+     * The statistics are:
+     * - The owner of the post
+     * - Content of the post
+     * - The number of likes of each post
+     *
+     * @param posts - The posts in the order they should be displayed
+     * @return - The string representing the statistics about the posts.
      */
-    private void resetVisited()
+    private String formatPosts(DSAQueue posts)
     {
-        for (Object item : people)
+        String str = "";
+        if (!posts.isEmpty())
         {
+            // For each post, append its information to the returned string
+            // The information includes:
+            // - The person who posted it
+            // - The content of the post
+            // - The number of like of each post
+            for (Object item : posts)
+            {
+                Post post = (Post) item;
+                str += post.getOwner() + "\n";
+                str += post.toString() + "\n";
+                str += "Like: " + post.getLikeCount() + "\n";
+                str += "\n";
+            }
+        }
+        else
+        {
+            str = "There are no posts in the network";
+        }
+
+        return str;
+    }
+
+    /**
+     * Builds the statistics about the given people.
+     * The information included is:
+     * - The name of the person
+     * - The number of followers of each person
+     * - The people who are following the person
+     * - The people this person is following
+     *
+     * @param queue - The people in the order they should be displayed
+     * @return - The String representing the statistics
+     */
+    private String formatPeople(DSAQueue queue)
+    {
+        String str = "";
+        for (Object item : queue)
+        {
+            // For each person in the network, display the information of that person
+            // This includes:
+            // - The person'name
+            // - The number of followers
+            // - The name of people who follows the person
             Person person = (Person) item;
-            person.resetVisited();
+            str += person.getName() + "\n";
+            str += "Number of followers: " + person.getFollowerCount() + "\n";
+            str += "Follower: ";
+
+            // If this person has any followers
+            if (person.hasAnyFollower())
+            {
+                DSAOrderedSet followers = person.getFollowers();
+                for (Object obj : followers)
+                {
+                    Person follower = (Person) obj;
+                    str += follower.getName() + " ";
+                }
+                str += "\n";
+            }
+            else
+            {
+                str += "N/A\n";  // Otherwise, just say N/A
+            }
+
+            str += "Following: ";
+            // If this person is following any people
+            if (person.isFollowingAnyPerson())
+            {
+                for (Object obj : person.getFollowingView())
+                {
+                    Person followed = (Person) obj;
+                    str += followed.getName() + " ";
+                }
+                str += "\n";
+            }
+            else
+            {
+                str += "N/A";
+            }
+
+            str += "\n\n";
+        }
+
+        return str;
+    }
+
+    /**
+     * Spreads a post across the network in the same way as spreadPost, but one level of the
+     * breadth first search at a time, with the followers of each level split across several threads.
+     * The threads only decide who likes (and follows), the people are claimed atomically so that
+     * nobody sees the post twice. The likes and follows are applied at the end of each level
+     * on this thread, in the same order as the followers appear in the level.
+     *
+     * @param owner - The owner of the post
+     * @param post  - The post
+     * @param step  - The mode to spread the post. If it is turned on, the program will stop after
+     *              each level and ask user to press ENTER to continue.
+     */
+    private void parallelSpreadPost(Person owner, Post post, boolean step, double clickBait, PrintWriter pw)
+    {
+        Scanner sc = new Scanner(System.in);
+        String continued = "";
+
+        prepareSpread();
+        if (claimMark == null || claimMark.length() < nextID)
+        {
+            claimMark = new AtomicLongArray(vertices.length);
+            levelNum = 0;
+        }
+
+        startSpread();
+        visitMark[owner.getID()] = spreadNum;  // A person cannot likes his/her own post
+
+        int[] frontier = {owner.getID()};  // The people who will show the post to their followers next
+        int frontierSize = 1;
+
+        while (frontierSize > 0 && continued.equals(""))
+        {
+            startLevel();
+
+            // Where the followers of each person in the frontier start when the whole level is put
+            // together, so that the threads can split the level by the number of followers
+            int[] levelOffsets = new int[frontierSize + 1];
+            for (int i = 0; i < frontierSize; i++)
+            {
+                int current = frontier[i];
+                levelOffsets[i + 1] = levelOffsets[i] + followerCounts[current];
+            }
+
+            DSASpreadTask task = new DSASpreadTask(owner, frontier, levelOffsets, 0, levelOffsets[frontierSize],
+                    likeProb * clickBait, followProb * clickBait);
+            SpreadBuffer level = ForkJoinPool.commonPool().invoke(task);
+
+            // Apply all the likes and follows of this level
+            // At most level.size people like the post, so the post's table of likes grows at most once
+            post.ensureLikeCapacity(post.getLikeCount() + level.size);
+            int[] nextFrontier = new int[level.size];
+            int nextSize = 0;
+            for (int i = 0; i < level.size; i++)
+            {
+                int id = level.liked[i];
+
+                // A person found more than once in this level only counts at the first position,
+                // which is where the sequential spread would have reached him/her
+                if (claimMark.get(id) == claimOf(level.positions[i]))
+                {
+                    Person follower = vertices[id];
+                    visitMark[id] = spreadNum;
+                    nextFrontier[nextSize] = id;
+                    nextSize++;
+
+                    printMessage("*** " + follower.getName() + " likes the post", pw);
+                    follower.likePost(post);
+
+                    if (level.follows[i])
+                    {
+                        printMessage("*** " + follower.getName() + " follows " + owner.getName(), pw);
+                        follower.follow(owner);
+                        // The owner's followers are never needed again in this spread
+                        snapshotAddFollower(owner, follower);
+                    }
+                }
+            }
+
+            // The people who liked the post in this level show it to their followers in the next level
+            frontier = nextFrontier;
+            frontierSize = nextSize;
+
+            // If in step mode, stop and ask user after every level
+            if (step)
+            {
+                System.out.print("\nFinished one time step, press ENTER to continue or any characters to stop: ");
+                continued = sc.nextLine();
+            }
+        }
+
+        // Reset the state of the network
+        mostRecentPost = null;
+        mostRecentPoster = null;
+    }
+
+    /**
+     * Returns the random number generator of the network.
+     * After the network is loaded from a file, the generator is made again from the seed.
+     */
+    private SplittableRandom getRandom()
+    {
+        if (random == null)
+        {
+            random = new SplittableRandom(seed);
+        }
+
+        return random;
+    }
+
+    /**
+     * Prints a message to the given PrintWriter or to the terminal if there is no PrintWriter
+     */
+    private void printMessage(String message, PrintWriter pw)
+    {
+        if (pw != null)
+        {
+            pw.println(message);
+        }
+        else
+        {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Makes sure the follower snapshot reflects the current state of the network and that the arrays
+     * used by the spreads cover every vertex ID.
+     */
+    private void prepareSpread()
+    {
+        if (!snapshotValid)
+        {
+            buildSnapshot();
+        }
+
+        if (visitMark == null || visitMark.length < nextID)
+        {
+            visitMark = new int[vertices.length];
+            spreadQueue = new DSAIntQueue(Math.max(1, vertices.length));
+            spreadNum = 0;
+        }
+    }
+
+    /**
+     * Builds the compressed sparse row snapshot of the follower lists.
+     * The followers of every person are copied (as vertex IDs) into one array, in the same order
+     * as in the follower list of that person, so that spreading a post only walks primitive arrays.
+     * Each row has no spare room, it gets some when it first grows (see moveRow()).
+     */
+    private void buildSnapshot()
+    {
+        vertices = new Person[Math.max(1, nextID)];
+        followerStarts = new int[vertices.length];
+        followerCounts = new int[vertices.length];
+        followerRooms = new int[vertices.length];
+
+        // Give each person a row as big as his/her followers
+        targetsEnd = 0;
+        for (Object item : people)
+        {
+            Person person = (Person) item;
+            int id = person.getID();
+            vertices[id] = person;
+            followerStarts[id] = targetsEnd;
+            followerRooms[id] = person.getFollowerCount();
+            targetsEnd += person.getFollowerCount();
+        }
+
+        followerTargets = new int[Math.max(1, targetsEnd)];
+        wastedLinks = 0;
+        snapshotValid = true;
+
+        for (Object item : people)
+        {
+            copyFollowers((Person) item);
+        }
+    }
+
+    /**
+     * Gives a new person an empty row in the snapshot (the IDs are given in order, so it is the next row).
+     *
+     * @param person - The new person
+     */
+    private void snapshotAddPerson(Person person)
+    {
+        if (snapshotValid)
+        {
+            int id = person.getID();
+            if (id >= vertices.length)
+            {
+                int size = Math.max(2 * vertices.length, id + 1);
+                vertices = copyOf(vertices, size);
+                followerStarts = copyOf(followerStarts, size);
+                followerCounts = copyOf(followerCounts, size);
+                followerRooms = copyOf(followerRooms, size);
+            }
+
+            vertices[id] = person;
+            followerStarts[id] = targetsEnd;
+            followerCounts[id] = 0;
+            followerRooms[id] = 0;
+        }
+    }
+
+    /**
+     * Drops the row of a removed person from the snapshot.
+     *
+     * @param person - The removed person
+     */
+    private void snapshotRemovePerson(Person person)
+    {
+        if (snapshotValid)
+        {
+            int id = person.getID();
+            vertices[id] = null;
+            wastedLinks += followerRooms[id];
+            followerCounts[id] = 0;
+            followerRooms[id] = 0;
+        }
+    }
+
+    /**
+     * Puts a new follower at the end of the row of the followed person, which is where the follower
+     * set of that person puts him/her too.
+     *
+     * @param followed - The person who is followed
+     * @param follower - The new follower
+     */
+    private void snapshotAddFollower(Person followed, Person follower)
+    {
+        if (snapshotValid)
+        {
+            int id = followed.getID();
+            if (followerCounts[id] == followerRooms[id])
+            {
+                moveRow(id, 2 * followerCounts[id]);
+            }
+
+            // Moving the row may have found the snapshot too wasted, then it is built again at the next spread
+            if (snapshotValid)
+            {
+                followerTargets[followerStarts[id] + followerCounts[id]] = follower.getID();
+                followerCounts[id]++;
+            }
+        }
+    }
+
+    /**
+     * Copies the followers of a person into his/her row of the snapshot again, after some of them
+     * unfollowed the person (the rest keep their order, so the row is written from the start).
+     *
+     * @param person - The person whose followers changed
+     */
+    private void snapshotCopyFollowers(Person person)
+    {
+        if (snapshotValid)
+        {
+            if (person.getFollowerCount() > followerRooms[person.getID()])
+            {
+                moveRow(person.getID(), 2 * person.getFollowerCount());
+            }
+
+            if (snapshotValid)
+            {
+                copyFollowers(person);
+            }
+        }
+    }
+
+    // Writes the followers of a person (as vertex IDs) into his/her row, which has room for all of them
+    private void copyFollowers(Person person)
+    {
+        int id = person.getID();
+        int position = followerStarts[id];
+        if (person.hasAnyFollower())
+        {
+            for (Object obj : person.getFollowers())
+            {
+                Person follower = (Person) obj;
+                followerTargets[position] = follower.getID();
+                position++;
+            }
+        }
+        followerCounts[id] = position - followerStarts[id];
+    }
+
+    /**
+     * Moves the row of a person to the end of the snapshot with more room, keeping the followers in it.
+     * The old row is left where it was (a spread that is going through it can carry on).
+     * If followerTargets is full and more than half of it is left behind by moved or dropped rows,
+     * the snapshot is marked to be built again instead.
+     *
+     * @param id   - The vertex ID of the person
+     * @param room - The room wanted for the row
+     */
+    private void moveRow(int id, int room)
+    {
+        room = Math.max(room, MIN_ROW_ROOM);
+        if (targetsEnd + room > followerTargets.length)
+        {
+            if (wastedLinks > targetsEnd / 2)
+            {
+                snapshotValid = false;
+            }
+            else
+            {
+                followerTargets = copyOf(followerTargets, Math.max(2 * followerTargets.length, targetsEnd + room));
+            }
+        }
+
+        if (snapshotValid)
+        {
+            System.arraycopy(followerTargets, followerStarts[id], followerTargets, targetsEnd, followerCounts[id]);
+            wastedLinks += followerRooms[id];
+            followerStarts[id] = targetsEnd;
+            followerRooms[id] = room;
+            targetsEnd += room;
+        }
+    }
+
+    // Returns a copy of an array with a new length
+    private static int[] copyOf(int[] array, int length)
+    {
+        int[] newArray = new int[length];
+        System.arraycopy(array, 0, newArray, 0, Math.min(array.length, length));
+        return newArray;
+    }
+
+    // Returns a copy of an array with a new length
+    private static Person[] copyOf(Person[] array, int length)
+    {
+        Person[] newArray = new Person[length];
+        System.arraycopy(array, 0, newArray, 0, Math.min(array.length, length));
+        return newArray;
+    }
+
+    /**
+     * Starts a new spread by moving to the next spread number.
+     * All the people are unvisited for the new number, so nothing has to be reset.
+     * When the number runs out (after about 2 billion spreads), the marks are cleared once.
+     */
+    private void startSpread()
+    {
+        if (spreadNum == Integer.MAX_VALUE)
+        {
+            for (int i = 0; i < visitMark.length; i++)
+            {
+                visitMark[i] = 0;
+            }
+            spreadNum = 0;
+        }
+
+        spreadNum++;
+        spreadKey = getRandom().nextLong();
+    }
+
+    /**
+     * Starts a new level of a parallel spread by moving to the next level number.
+     * The claims made in earlier levels do not count for the new number.
+     */
+    private void startLevel()
+    {
+        if (levelNum == Integer.MAX_VALUE)
+        {
+            claimMark = new AtomicLongArray(claimMark.length());
+            levelNum = 0;
+        }
+
+        levelNum++;
+    }
+
+    // The claim made at the given position of the current level (the level number and the position together)
+    private long claimOf(int position)
+    {
+        return ((long) levelNum << 32) | position;
+    }
+
+    /**
+     * Returns the random number (between 0 and 1) for one decision made when the post is shown
+     * through one follower link.
+     * The number only depends on the key of the spread, the position of the link in the snapshot and
+     * which decision it is, so the same decision comes out no matter in which order or on which thread
+     * the links are handled. The bits are mixed in the same way as SplittableRandom does.
+     *
+     * @param link     - The position of the link in followerTargets
+     * @param decision - LIKE_DRAW or FOLLOW_DRAW
+     * @return - The random number
+     */
+    private double draw(int link, int decision)
+    {
+        long z = spreadKey + (2L * link + decision + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Create a post when given the name of the owner and the content
+     *
+     * @param owner   - The owner of the post
+     * @param content - The content of the post
+     * @return - The Post object
+     */
+    private Post createPost(Person owner, String content)
+    {
+        // Generate a new ID for the new post
+        // Assuming that a person cannot delete old posts
+        // Therefore, we can guarantee that post ID is always incremented
+        String id = Integer.toString(owner.getPostCount() + 1);
+        return new Post(id, owner.getName(), content);
+    }
+
+    /**
+     * The task used in parallel spreads.
+     * It handles the followers from position lo to hi (exclusive) of the current level, where the
+     * level is all the followers of the people in the frontier put one after another.
+     * Big ranges are split in half until they are small enough for one thread.
+     */
+    private class DSASpreadTask extends RecursiveTask<SpreadBuffer>
+    {
+        private Person owner;  // The owner of the post
+        private int[] frontier;  // The people in the current level
+        private int[] levelOffsets;  // Where the followers of each person in the frontier start in the level
+        private int lo;
+        private int hi;
+        private double likeChance;
+        private double followChance;
+
+        public DSASpreadTask(Person inOwner, int[] inFrontier, int[] inLevelOffsets, int inLo, int inHi,
+                             double inLikeChance, double inFollowChance)
+        {
+            owner = inOwner;
+            frontier = inFrontier;
+            levelOffsets = inLevelOffsets;
+            lo = inLo;
+            hi = inHi;
+            likeChance = inLikeChance;
+            followChance = inFollowChance;
+        }
+
+        protected SpreadBuffer compute()
+        {
+            SpreadBuffer result;
+
+            if (hi - lo <= SPREAD_GRAIN)
+            {
+                result = spreadRange();
+            }
+            else
+            {
+                // Split the range in half, the left half may be picked up by another thread
+                int mid = (lo + hi) >>> 1;
+                DSASpreadTask left = new DSASpreadTask(owner, frontier, levelOffsets, lo, mid, likeChance, followChance);
+                DSASpreadTask right = new DSASpreadTask(owner, frontier, levelOffsets, mid, hi, likeChance, followChance);
+                left.fork();
+                SpreadBuffer rightResult = right.compute();
+                result = left.join();
+                result.appendAll(rightResult);  // Keep the order of the level
+            }
+
+            return result;
+        }
+
+        // Shows the post to the followers in the range and records the ones who like it
+        private SpreadBuffer spreadRange()
+        {
+            SpreadBuffer buffer = new SpreadBuffer();
+
+            if (lo < hi)
+            {
+                int k = findFrontierIndex(lo);  // The person in the frontier whose follower is at position lo
+
+                for (int position = lo; position < hi; position++)
+                {
+                    // Move to the next person in the frontier when we run out of his/her followers
+                    while (levelOffsets[k + 1] <= position)
+                    {
+                        k++;
+                    }
+
+                    int link = followerStarts[frontier[k]] + position - levelOffsets[k];
+                    int id = followerTargets[link];
+                    Person follower = vertices[id];
+
+                    // The follower has to like the post and be claimed at this position before any other
+                    // position of the level (another thread may still find an earlier one later on)
+                    if (follower.decideLike(likeChance, draw(link, LIKE_DRAW)) && claim(id, position))
+                    {
+                        // Nobody changes who the follower is following until the end of the level
+                        boolean follows = !follower.isFollowing(owner)
+                                && follower.decideFollow(followChance, draw(link, FOLLOW_DRAW));
+                        buffer.add(id, position, follows);
+                    }
+                }
+            }
+
+            return buffer;
+        }
+
+        // Binary search for the last person in the frontier whose followers start at or before the position
+        private int findFrontierIndex(int position)
+        {
+            int low = 0;
+            int high = levelOffsets.length - 2;
+            while (low < high)
+            {
+                int mid = (low + high + 1) >>> 1;
+                if (levelOffsets[mid] <= position)
+                {
+                    low = mid;
+                }
+                else
+                {
+                    high = mid - 1;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Claims the person at the given position of the level, unless the person was visited in an
+         * earlier level or is already claimed at an earlier position of this level.
+         * Claims only ever move to earlier positions, so after the level the first position wins.
+         */
+        private boolean claim(int id, int position)
+        {
+            // The visited marks are only changed between the levels
+            if (visitMark[id] == spreadNum)
+            {
+                return false;
+            }
+
+            long claim = claimOf(position);
+            while (true)
+            {
+                long current = claimMark.get(id);
+                if ((current >>> 32) == levelNum && (int) current <= position)
+                {
+                    return false;
+                }
+
+                if (claimMark.compareAndSet(id, current, claim))
+                {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The people who liked the post (with the position in the level where they were claimed and
+     * whether they follow the owner) found by one task in a parallel spread, in the order they were found.
+     * A person may be in several buffers of the same level, only the first position counts.
+     */
+    private static class SpreadBuffer
+    {
+        private int[] liked;  // The IDs of the people who liked the post
+        private int[] positions;  // The position in the level where each of them was claimed
+        private boolean[] follows;  // Whether each of them follows the owner as well
+        private int size;
+
+        public SpreadBuffer()
+        {
+            liked = new int[16];
+            positions = new int[16];
+            follows = new boolean[16];
+            size = 0;
+        }
+
+        public void add(int id, int position, boolean follow)
+        {
+            ensureCapacity(size + 1);
+            liked[size] = id;
+            positions[size] = position;
+            follows[size] = follow;
+            size++;
+        }
+
+        public void appendAll(SpreadBuffer other)
+        {
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.liked, 0, liked, size, other.size);
+            System.arraycopy(other.positions, 0, positions, size, other.size);
+            System.arraycopy(other.follows, 0, follows, size, other.size);
+            size += other.size;
+        }
+
+        private void ensureCapacity(int capacity)
+        {
+            if (capacity > liked.length)
+            {
+                int newLength = Math.max(capacity, liked.length * 2);
+                int[] newLiked = new int[newLength];
+                int[] newPositions = new int[newLength];
+                boolean[] newFollows = new boolean[newLength];
+                System.arraycopy(liked, 0, newLiked, 0, size);
+                System.arraycopy(positions, 0, newPositions, 0, size);
+                System.arraycopy(follows, 0, newFollows, 0, size);
+                liked = newLiked;
+                positions = newPositions;
+                follows = newFollows;
+            }
         }
     }
 }
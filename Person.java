@@ -5,34 +5,58 @@
  * Date modified:   19/10/2019
  * Purpose:     This class represents a Person in the social network.
  * Each Person acts like a vertex in the network (the Graph).
- * Each Person will hold the list of his/her followers (like the adjacency list).
+ * Each Person will hold the set of his/her followers (like the adjacency list).
+ * The followers are kept in a DSAOrderedSet so that adding, removing and checking a follower
+ * are O(1) while they can still be walked through in the order they followed this person.
  * In addition, each Person will also hold a Table of the people his/her is following.
+ * The followers, the people followed and the likes are all keyed by the ID of the person (an int),
+ * so checking a relationship never hashes a name.
  */
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Person implements Serializable
 {
+    private static final AtomicInteger NEXT_DETACHED_ID = new AtomicInteger(-1);  // The next ID for a person made outside of a network
+
     private String name;  // The name of the person
+    private int id;  // The vertex ID given by the network (dense, starting from 0), negative if not in a network
     private DSAHashTable posts;  // The posts that this person posted
+    private DSARankList postRanking;  // The same posts ranked by their number of likes, updated on every like
     private DSALinkedList postLiked;  // The posts that this person had
     // liked, a Person cannot like the post of his/herself
-    private DSALinkedList followers;   // The people who follow this person
-    private DSAHashTable following;  // The people this person is following
+    private DSAOrderedSet followers;   // The people who follow this person (keyed by ID)
+    private DSAIntHashTable following;  // The people this person is following (keyed by ID)
     private int followerCount;  // The number of followers
     private int followingCount; // The number of people this person is following
     private int postCount;   // How many post this person has
-    private boolean visited;
+    private DSARankList popularity;  // The popularity ranking this person is in (null if not in any network)
+    private Object popularityHandle;  // The handle of this person in the popularity ranking
 
     /**
      * Constructor
      * A name is required to construct a Person object. Each person in the network has a
      * unique name.
+     * The person is not in any network, so it gets a negative ID of its own (the follow and like
+     * relationships are keyed by ID, so no two people may share one).
      *
      * @param inName - The name of the person to be created
      */
     public Person(String inName)
+    {
+        this(inName, NEXT_DETACHED_ID.getAndDecrement());
+    }
+
+    /**
+     * Alternate constructor.
+     * Used by the network to create a person together with his/her vertex ID.
+     *
+     * @param inName - The name of the person to be created
+     * @param inID   - The vertex ID of the person in the network
+     */
+    public Person(String inName, int inID)
     {
         if (inName == null)
         {
@@ -40,16 +64,19 @@ public class Person implements Serializable
         }
 
         name = inName;
+        id = inID;
 
         /* The newly created Person does not have any followers and does not follows any people */
-        posts = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE);
+        posts = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Person posts");
+        postRanking = new DSARankList();
         postLiked = new DSALinkedList();
-        followers = new DSALinkedList();
-        following = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE);
+        followers = new DSAOrderedSet("Person followers");
+        following = new DSAIntHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Person following");
         followerCount = 0;
         followingCount = 0;
         postCount = 0;
-        visited = false;
+        popularity = null;
+        popularityHandle = null;
     }
 
     // =========== THE GETTERS ============ //
@@ -58,6 +85,11 @@ public class Person implements Serializable
         return name;
     }
 
+    public int getID()
+    {
+        return id;
+    }
+
     public int getPostCount()
     {
         return postCount;
@@ -74,54 +106,62 @@ public class Person implements Serializable
     }
 
     /**
-     * Returns all the post of the current person in increasing order of the number of likes for each post
+     * Returns all the post of the current person in descending order of the number of likes for each post
      *
-     * @return - A queue containing all the posts of the person in increasing order of the number of likes
+     * @return - A queue containing all the posts of the person in descending order of the number of likes
      */
     public DSAQueue getPosts()
     {
         DSAQueue queue = null;
         if (hasAnyPosts())
         {
-            DSALinkedList postList = posts.values();  // Get all the post (not in order yet)
-
-            /**
-             * Use a heap to get all the post in increasing order.
-             * This can be done by using the number of likes of each post as keys
-             * to insert the post to the heap.
-             * After all the posts have been inserted, keep removing the post from the heap
-             * and enqueue them to the queue.
-             */
-            DSAHeap heap = new DSAHeap(postCount);
-            queue = new DSAQueue();
-
-            // Get all the posts in nearly sorted order by using the heap
-            for (Object item : postList)
-            {
-                Post post = (Post) item;
-                heap.add(post.getLikeCount(), post);
-            }
+            queue = new DSAQueue(postCount);
 
-            // Build the queue from the heap
-            while (!heap.isEmpty())
+            // The post ranking is always kept in sorted order, just copy it to the queue
+            for (Object item : postRanking)
             {
-                queue.enqueue(heap.remove());
+                queue.enqueue(item);
             }
         }
 
         return queue;
     }
 
-    public DSALinkedList getFollowers()
+    /**
+     * Returns an iterator over the posts of the current person in descending order of the number of likes.
+     * The post ranking is always sorted, so walking the first k posts is O(k).
+     * No post may be liked while the iterator is being used.
+     *
+     * @return - The iterator
+     */
+    public Iterator getPostsByLikes()
+    {
+        return postRanking.iterator();
+    }
+
+    // The posts of this person in no particular order, straight from the table
+    public Iterable getPostsView()
+    {
+        return posts;
+    }
+
+    public DSAOrderedSet getFollowers()
     {
         return followers;
     }
 
+    // A copy of the people this person is following, safe to use when following/unfollowing
     public DSALinkedList getFollowing()
     {
         return following.values();
     }
 
+    // The people this person is following, straight from the table (must not follow/unfollow while using it)
+    public Iterable getFollowingView()
+    {
+        return following;
+    }
+
     /**
      * Checks if this person has any followers.
      *
@@ -161,10 +201,11 @@ public class Person implements Serializable
     public Post getMostLikedPost()
     {
         Post post = null;
-        DSAQueue queue = getPosts();
-        if (!queue.isEmpty())
+
+        // The most liked post is always at the front of the ranking
+        if (!postRanking.isEmpty())
         {
-            post = (Post) queue.dequeue();
+            post = (Post) postRanking.peekFirst();
         }
 
         return post;
@@ -178,6 +219,13 @@ public class Person implements Serializable
      */
     public void addPost(Post post)
     {
+        // Check the ID first, so a post never ends up in the ranking without being in the table
+        if (posts.hasKey(post.getPostID()))
+        {
+            throw new IllegalArgumentException(name + " already has a post with ID " + post.getPostID());
+        }
+
+        post.enterOwnerRanking(postRanking);  // Fails if the post already belongs to someone
         posts.put(post.getPostID(), post);
         postCount++;
     }
@@ -189,17 +237,17 @@ public class Person implements Serializable
      */
     public void follow(Person person)
     {
-        if (isFollowing(person.name))
+        if (name.equals(person.name))
         {
-            throw new IllegalArgumentException(name + " is already following " + person.getName());
+            throw new IllegalArgumentException("A person cannot follows himself.");
         }
 
-        if (name.equals(person.name))
+        // Checks and adds the person to the following table in one go
+        if (following.putIfAbsent(person.id, person) != null)
         {
-            throw new IllegalArgumentException("A person cannot follows himself.");
+            throw new IllegalArgumentException(name + " is already following " + person.getName());
         }
 
-        following.put(person.name, person);
         followingCount++;  // Increase the number of following people
         person.addFollower(this);  // The current person is the follower of the other person
 
@@ -213,10 +261,10 @@ public class Person implements Serializable
     public void unfollow(Person person)
     {
         // Cannot unfollow the person you are not following
-        if (isFollowing(person.name))
+        // Checks and removes the person from the following table in one go
+        if (following.remove(person.id) != null)
         {
             person.removeFollower(this);  // The current person is not the other's follower anymore
-            following.removeKey(person.name);
             followingCount--;  // Update the number of people this person is following
         }
         else
@@ -226,19 +274,14 @@ public class Person implements Serializable
     }
 
     /**
-     * Checks if this person is following another person when given the name.
+     * Checks if this person is following another person.
      *
-     * @param name - The name of the other person that needs checking
+     * @param person - The other person that needs checking
      * @return - True if this person is currently following that person
      */
-    public boolean isFollowing(String name)
-    {
-        return following.hasKey(name);
-    }
-
-    public boolean isVisited()
+    public boolean isFollowing(Person person)
     {
-        return visited;
+        return following.hasKey(person.id);
     }
 
     /**
@@ -249,55 +292,38 @@ public class Person implements Serializable
     public void likePost(Post post)
     {
         // Cannot like a same post twice
-        if (!post.isLikeBy(this.name))
+        if (post.addPeopleLikedIfAbsent(this))
         {
-            post.addPeopleLiked(this);
             postLiked.insertLast(post);
         }
     }
 
     /**
-     * Base on the chance of follow, decide whether this person follows another person or not.
+     * Base on the chance of follow, decide whether this person follows another person or not,
+     * using a random number from the random number generator of the simulation (so that it can be repeated).
      *
      * @param followChance - The probability that this person follows another
+     * @param rand         - A random number between 0 (inclusive) and 1 (exclusive)
      * @return - True if this person wants to follow or false otherwise
      */
-    public boolean decideFollow(double followChance)
+    public boolean decideFollow(double followChance, double rand)
     {
-        double rand = Math.random();
         return rand < followChance;
     }
 
     /**
-     * Base on the chance of like, decide whether this person likes a post or not.
+     * Base on the chance of like, decide whether this person likes a post or not,
+     * using a random number from the random number generator of the simulation (so that it can be repeated).
      *
      * @param likeChance - The probability that this person likes a post
+     * @param rand       - A random number between 0 (inclusive) and 1 (exclusive)
      * @return - True if this person wants to like or false otherwise
      */
-    public boolean decideLike(double likeChance)
+    public boolean decideLike(double likeChance, double rand)
     {
-        double rand = Math.random();
         return rand < likeChance;
     }
 
-    /**
-     * Set the state of the current person to unvisited
-     * (used in breadth first search)
-     */
-    public void resetVisited()
-    {
-        visited = false;
-    }
-
-    /**
-     * Visit this person (set the state of this person to be visited)
-     * (used in breadth first search)
-     */
-    public void visit()
-    {
-        visited = true;
-    }
-
     // String representation of a person
     public String toString()
     {
@@ -327,7 +353,7 @@ public class Person implements Serializable
         str += "Following: ";
         if (isFollowingAnyPerson())
         {
-            for (Object item : following.values())
+            for (Object item : following)
             {
                 Person person = (Person) item;
                 str += person.getName() + " ";
@@ -345,9 +371,11 @@ public class Person implements Serializable
         if (hasAnyPosts())
         {
             str += "\n";
-            for (Object item : getPosts())
+            // Walk the ranking straight away instead of copying it into a queue first
+            Iterator iterator = getPostsByLikes();
+            while (iterator.hasNext())
             {
-                Post post = (Post) item;
+                Post post = (Post) iterator.next();
                 str += post.toString() + "\n";
             }
         }
@@ -360,19 +388,49 @@ public class Person implements Serializable
         return str.trim();
     }
 
+    /**
+     * Puts this person into a popularity ranking (ranked by the number of followers).
+     * From now on, the ranking is updated every time this person gains or loses a follower.
+     *
+     * @param ranking - The popularity ranking of the network
+     */
+    public void enterRanking(DSARankList ranking)
+    {
+        if (popularity != null)
+        {
+            throw new IllegalArgumentException(name + " is already in a popularity ranking.");
+        }
+
+        popularity = ranking;
+        popularityHandle = ranking.add(this, followerCount);
+    }
+
+    /**
+     * Takes this person out of the popularity ranking he/she is in (if any).
+     */
+    public void leaveRanking()
+    {
+        if (popularity != null)
+        {
+            popularity.remove(popularityHandle);
+            popularity = null;
+            popularityHandle = null;
+        }
+    }
+
     /**
      * Checks if the given person is following this person.
      * 
-     * @param name - The name of the person that needs checking
+     * @param person - The person that needs checking
      * @return - true if the given person is actually following this person
      *           otherwise returns false
      */
-    public boolean hasFollower(String name)
+    public boolean hasFollower(Person person)
     {
-        return findPerson(followers, name) != null;
+        return followers.contains(person.id);
     }
 
-     /**
+    /**
      * Remove follower from the list of people who are following this person
      * (When the follower decides to unfollow this person).
      *
@@ -380,50 +438,13 @@ public class Person implements Serializable
      */
     public void removeFollower(Person follower)
     {
-        DSALinkedList newFollowerList = new DSALinkedList();  // The new list that does not contain the follower
-
-        // Add all the current followers except for the given follower
-        for (Object item : followers)
-        {
-            Person per = (Person) item;
-            if (!per.name.equals(follower.name))
-            {
-                newFollowerList.insertLast(per);
-            }
-        }
-
-        followers = newFollowerList;
+        followers.remove(follower.id);
         followerCount--;
-    }
-
-    /**
-     * Find a person in a list of people, returns the Person object if that
-     * person is in the list otherwise returns null.
-     *
-     * @param people - The list of people
-     * @param name   - The name of the person
-     * @return - The Person object if the person is in the list otherwise returns null.
-     */
-    private Person findPerson(DSALinkedList people, String name)
-    {
-        boolean found = false;  // Found or not?
-        Iterator iterator = people.iterator();
-        Person person = null;
-        // Iterate through the list to find the person
-        // Stop when found or reach the end of the list
-        while (!found && iterator.hasNext())
-        {
-            person = (Person) iterator.next();
-            found = name.equals(person.name);
-        }
 
-        // If not found
-        if (!found)
+        if (popularity != null)
         {
-            person = null;
+            popularity.decrease(popularityHandle);
         }
-
-        return person;
     }
 
     /**
@@ -433,7 +454,12 @@ public class Person implements Serializable
      */
     private void addFollower(Person follower)
     {
-        followers.insertLast(follower);
+        followers.add(follower.id, follower);
         followerCount++;
+
+        if (popularity != null)
+        {
+            popularity.increase(popularityHandle);
+        }
     }
 }
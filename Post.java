@@ -15,8 +15,12 @@ public class Post implements Serializable
     private String postID;
     private String owner; // The person who posted this post
     private String content; // The content of the post
-    private DSAHashTable likedBy;  // People who liked this post
+    private DSAIntHashTable likedBy;  // People who liked this post (keyed by ID)
     private int likeCount;   // The number of people who liked this post
+    private DSARankList ranking;  // The post ranking of the network this post is in (null if not in any network)
+    private Object rankHandle;    // The handle of this post in the ranking
+    private DSARankList ownerRanking;  // The ranking of the posts of the owner (null if not given to a person yet)
+    private Object ownerRankHandle;    // The handle of this post in the ranking of the owner
 
     /**
      * Constructor, each post contains its ID, its owner (who posts it) and the content
@@ -31,7 +35,11 @@ public class Post implements Serializable
         owner = inOwner;
         content = inContent;
         likeCount = 0;
-        likedBy = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE);
+        likedBy = new DSAIntHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Post likes");
+        ranking = null;
+        rankHandle = null;
+        ownerRanking = null;
+        ownerRankHandle = null;
     }
 
     //====== ALL NECESSARY GETTERS ============= //
@@ -45,11 +53,18 @@ public class Post implements Serializable
         return content;
     }
 
+    // A copy of the people who liked this post
     public DSALinkedList likedBy()
     {
         return likedBy.values();
     }
 
+    // The people who liked this post, straight from the table (must not like the post while using it)
+    public Iterable likedByView()
+    {
+        return likedBy;
+    }
+
     public int getLikeCount()
     {
         return likeCount;
@@ -103,14 +118,102 @@ public class Post implements Serializable
      * @param liker - The person who liked this post
      */
     public void addPeopleLiked(Person liker)
+    {
+        if (!addPeopleLikedIfAbsent(liker))
+        {
+            throw new IllegalArgumentException(liker.getName() + " already liked this post");
+        }
+    }
+
+    /**
+     * When a person likes this post, add that person to the list of people who liked it,
+     * unless that person already liked it (checked with the same lookup).
+     *
+     * @param liker - The person who liked this post
+     * @return - True if the like was added or false if the person already liked this post
+     */
+    public boolean addPeopleLikedIfAbsent(Person liker)
     {
         if (liker == null)
         {
             throw new IllegalArgumentException("Cannot add NULL liker to Post");
         }
 
-        likedBy.put(liker.getName(), liker);
-        likeCount++;
+        boolean added = likedBy.putIfAbsent(liker.getID(), liker) == null;
+        if (added)
+        {
+            likeCount++;
+
+            // Move the post one step up in the ranking of the network and of its owner
+            if (ranking != null)
+            {
+                ranking.increase(rankHandle);
+            }
+            if (ownerRanking != null)
+            {
+                ownerRanking.increase(ownerRankHandle);
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Makes room for the given number of likes in total, so that a large number of people
+     * can like this post at once without the table of likes growing several times.
+     *
+     * @param likeNum - The number of likes this post is going to have
+     */
+    public void ensureLikeCapacity(int likeNum)
+    {
+        likedBy.ensureCapacity(likeNum);
+    }
+
+    /**
+     * Puts this post into a ranking of posts (ranked by the number of likes).
+     * From now on, the ranking is updated every time someone likes this post.
+     *
+     * @param inRanking - The post ranking of the network
+     */
+    public void enterRanking(DSARankList inRanking)
+    {
+        if (ranking != null)
+        {
+            throw new IllegalArgumentException("The post is already in a ranking.");
+        }
+
+        ranking = inRanking;
+        rankHandle = inRanking.add(this, likeCount);
+    }
+
+    /**
+     * Puts this post into the ranking of the posts of its owner (ranked by the number of likes).
+     * A post belongs to one person only, so it can only enter one such ranking.
+     *
+     * @param inRanking - The post ranking of the owner
+     */
+    public void enterOwnerRanking(DSARankList inRanking)
+    {
+        if (ownerRanking != null)
+        {
+            throw new IllegalArgumentException("The post already belongs to a person.");
+        }
+
+        ownerRanking = inRanking;
+        ownerRankHandle = inRanking.add(this, likeCount);
+    }
+
+    /**
+     * Takes this post out of the ranking it is in (if any).
+     */
+    public void leaveRanking()
+    {
+        if (ranking != null)
+        {
+            ranking.remove(rankHandle);
+            ranking = null;
+            rankHandle = null;
+        }
     }
 
     /**
@@ -120,9 +223,9 @@ public class Post implements Serializable
      * @param person - The person that needs checking
      * @return - True if the person already liked this post or false otherwise
      */
-    public boolean isLikeBy(String person)
+    public boolean isLikeBy(Person person)
     {
-        return likedBy.hasKey(person);
+        return likedBy.hasKey(person.getID());
     }
 
 }
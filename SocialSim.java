@@ -27,9 +27,15 @@ public class SocialSim
     public static final int NEW_POST = 6;
     public static final int DISPLAY_NET = 7;
     public static final int DISPLAY_STATS = 8;
-    public static final int UPDATE = 9;
-    public static final int SAVE_NETWORK = 10;
-    public static final int EXIT = 11;
+    public static final int DISPLAY_TOP_STATS = 9;
+    public static final int UPDATE = 10;
+    public static final int SAVE_NETWORK = 11;
+    public static final int EXIT = 12;
+
+    // The number of people and posts written to the log at the end of a simulation
+    public static final int TOP_K = 10;
+
+    private static boolean pipelineEvents = false;  // Read the event file with a pipeline of threads (-t option)
 
     // All the options in node operation
     public static final int FIND_PERSON = 1;
@@ -50,7 +56,7 @@ public class SocialSim
     private static String usage()
     {
         String str = "";
-        str += "\nUsage: java SocialSim <mode> [network_file] [events_file] [like_prob] [follow_prob]\n\n";
+        str += "\nUsage: java SocialSim <mode> [network_file] [events_file] [like_prob] [follow_prob] [options]\n\n";
         str += "\tWhere:\n";
         str += "\t\t<mode> is one of the following modes to run the program: \n";
         str += "\t\t\t-i:     run the program in interative mode\n";
@@ -61,10 +67,82 @@ public class SocialSim
         str += "\t\t\tevents_file:    The file containing all the events that need to be analysed\n";
         str += "\t\t\tlike_prob:      The probability that a person likes a post\n";
         str += "\t\t\tfollow_prob:    The probability that a person follows another person\n";
+        str += "\n\t\tThe options (simulation mode only) are:\n";
+        str += "\t\t\t-p:             spread the posts in parallel (one level of followers at a time)\n";
+        str += "\t\t\t-r <seed>:      seed for the random numbers, the same seed gives the same simulation\n";
+        str += "\t\t\t-t:             read the event file with separate threads for reading, simulating and logging\n";
+        str += "\t\t\t-d:             print statistics about the hash tables (probe lengths, resizes) at the end\n";
 
         return str;
     }
 
+    /**
+     * Turns on the hash table statistics if the -d flag is given after the probabilities in simulation mode.
+     * This has to be done before the network is made, a table made while the statistics are off never
+     * records anything.
+     *
+     * @param args  - The command line arguments
+     * @param start - The index of the first flag in args
+     */
+    private static void enableTableStats(String[] args, int start)
+    {
+        for (int i = start; i < args.length; i++)
+        {
+            if (args[i].equals("-d"))
+            {
+                DSATableStats.enable();
+            }
+        }
+    }
+
+    /**
+     * Applies the optional flags given after the probabilities in simulation mode to the network.
+     * If a flag is not recognized, throws an exception.
+     *
+     * @param network - The network of the simulation
+     * @param args    - The command line arguments
+     * @param start   - The index of the first flag in args
+     */
+    private static void applyOptions(Network network, String[] args, int start)
+    {
+        for (int i = start; i < args.length; i++)
+        {
+            if (args[i].equals("-p"))
+            {
+                network.setParallelSpread(true);
+                System.out.println("==> Parallel spreading is turned on");
+            }
+            else if (args[i].equals("-d"))
+            {
+                // Already turned on by enableTableStats() before the network made its first table
+                System.out.println("==> Hash table statistics are turned on");
+            }
+            else if (args[i].equals("-t"))
+            {
+                pipelineEvents = true;
+                System.out.println("==> Pipelined event reading is turned on");
+            }
+            // The seed is the argument right after the flag
+            else if (args[i].equals("-r") && i + 1 < args.length)
+            {
+                i++;
+                try
+                {
+                    network.setSeed(Long.parseLong(args[i]));
+                }
+                catch (NumberFormatException e)
+                {
+                    throw new IllegalArgumentException("Error! The seed must be an integer, please refer to the usage");
+                }
+                System.out.println("==> Random seed: " + network.getSeed());
+            }
+            else
+            {
+                throw new IllegalArgumentException("Error! Unrecognized option " + args[i] + ", please refer to the usage");
+            }
+        }
+    }
+
     /**
      * Prints the main menu in interactive mode
      *
@@ -82,9 +160,10 @@ public class SocialSim
         str += "6. New post\n";
         str += "7. Display the network\n";
         str += "8. Display the statistics\n";
-        str += "9. Update\n";
-        str += "10.Save the network\n";
-        str += "11.Exit\n";
+        str += "9. Display the top people and posts\n";
+        str += "10.Update\n";
+        str += "11.Save the network\n";
+        str += "12.Exit\n";
 
         return str;
     }
@@ -329,6 +408,26 @@ public class SocialSim
         }
     }
 
+    /**
+     * Display the statistics about the k most popular people and posts in a network.
+     * The number k is asked from the user.
+     *
+     * @param network - The network to be displayed
+     */
+    private static void displayTopStats(Network network)
+    {
+        int k = integerInput("==> Enter the number of people and posts to display: ", 1, Integer.MAX_VALUE);
+        try
+        {
+            System.out.println("\n==> DISPLAYING THE TOP " + k + " STATISTICS\n");
+            System.out.println(network.displayTopStats(k));
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println("\n!!! " + e.getMessage());
+        }
+    }
+
     /**
      * Update the network after a post has been added
      * (Spreading the post)
@@ -588,6 +687,11 @@ public class SocialSim
                             displayStats(network);
                             break;
 
+                        // Display the top people and posts
+                        case DISPLAY_TOP_STATS:
+                            displayTopStats(network);
+                            break;
+
                         // Spread the newest post
                         case UPDATE:
                             update(network);
@@ -611,7 +715,8 @@ public class SocialSim
             {
                 // In simulation mode, we need 4 more arguments (5 in total)
                 // the network file, the event file, the like prob, the follow prob
-                if (args.length != 5)
+                // followed by the optional flags
+                if (args.length < 5)
                 {
                     System.out.println("!!! Error! Invalid number of arguments, please refer to the usage");
                 }
@@ -626,12 +731,14 @@ public class SocialSim
                         String eventFile = args[2];
                         double probLike = Double.parseDouble(args[3]);
                         double probFoll = Double.parseDouble(args[4]);
+                        enableTableStats(args, 5);
+                        network = new Network(probLike, probFoll);   // Create a new network from the given data
+                        applyOptions(network, args, 5);  // The optional flags after the probabilities
 
                         // Generate a log file name to save the outputs
                         String logfile = FileIO.generateLogFileName(networkFile, eventFile);
                         outputStream = new FileOutputStream(logfile);
                         pw = new PrintWriter(outputStream);
-                        network = new Network(probLike, probFoll);   // Create a new network from the given data
 
                         pw.printf("Like prob: %.2f\n", probLike);
                         pw.printf("Follow prob: %.2f\n\n", probFoll);
@@ -649,11 +756,29 @@ public class SocialSim
                         System.out.println("==> Reading the event file");
 
                         long startEventTime = System.currentTimeMillis();  // Start the timing
-                        FileIO.readEventFile(network, eventFile, pw);  // Read the event file and output to the log
+                        // Read the event file and output to the log
+                        if (pipelineEvents)
+                        {
+                            FileIO.readEventFilePipelined(network, eventFile, pw);
+                        }
+                        else
+                        {
+                            FileIO.readEventFile(network, eventFile, pw);
+                        }
                         long finishedEventTime = System.currentTimeMillis(); // End the timing
 
                         System.out.println("==> Finished processing the event file");
 
+                        FileIO.printTopStats(network, TOP_K, pw);  // The top people and posts at the end
+
+                        // The statistics of the hash tables go to both the log and the terminal
+                        if (DSATableStats.isEnabled())
+                        {
+                            String tableStats = DSATableStats.report();
+                            pw.println("\n" + tableStats);
+                            System.out.println("\n" + tableStats);
+                        }
+
                         System.out.println("\n==> Successfully saved the log.");
                         System.out.println("==> The log file is: " + logfile);
 
@@ -0,0 +1,88 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAConcurrentHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAConcurrentHashTable class
+ */
+public class UnitTestDSAConcurrentHashTable
+{
+    public static void main(String[] args) throws InterruptedException
+    {
+        final DSAConcurrentHashTable table = new DSAConcurrentHashTable();
+        String[] keys = {"John", "Sara", "Mike", "Matthew", "Jack"};
+
+        System.out.println("\nPutting 5 keys into the table...");
+        for (int i = 0; i < keys.length; i++)
+        {
+            table.put(keys[i], i);
+        }
+        for (int i = 0; i < keys.length; i++)
+        {
+            System.out.printf("%s: Expected: %d - Actual: %s\n", keys[i], i, table.get(keys[i]));
+        }
+
+        System.out.println("\nTry inserting a duplicate key");
+        try
+        {
+            table.put(keys[0], 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nRemoving " + keys[0]);
+        table.removeKey(keys[0]);
+        System.out.println("Has key " + keys[0] + "? Expected: false - Actual: " + table.hasKey(keys[0]));
+        System.out.println("Has key " + keys[1] + "? Expected: true - Actual: " + table.hasKey(keys[1]));
+
+        // Several threads add and remove their own keys at the same time
+        final int threadNum = 4;
+        final int keyNum = 20000;
+        System.out.printf("\n%d threads each add %d keys and remove half of them at the same time...\n", threadNum, keyNum);
+        Thread[] threads = new Thread[threadNum];
+        for (int t = 0; t < threadNum; t++)
+        {
+            final String prefix = "T" + t + "-";
+            threads[t] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    for (int i = 0; i < keyNum; i++)
+                    {
+                        table.put(prefix + i, i);
+                    }
+                    for (int i = 0; i < keyNum; i += 2)
+                    {
+                        table.removeKey(prefix + i);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (int t = 0; t < threadNum; t++)
+        {
+            threads[t].join();
+        }
+
+        int found = 0;
+        for (int t = 0; t < threadNum; t++)
+        {
+            for (int i = 0; i < keyNum; i++)
+            {
+                if (table.hasKey("T" + t + "-" + i))
+                {
+                    found++;
+                }
+            }
+        }
+        System.out.printf("Keys left: Expected: %d - Actual: %d\n", threadNum * keyNum / 2, found);
+        int valueNum = 0;
+        for (Object item : table.values())
+        {
+            valueNum++;
+        }
+        System.out.printf("All values: Expected: %d - Actual: %d\n", threadNum * keyNum / 2 + keys.length - 1, valueNum);
+    }
+}
@@ -7,6 +7,7 @@
  */
 public class UnitTestDSAHashTable
 {
+
     public static void main(String[] args)
     {
         System.out.println("\nInitializing the hash table...\n");
@@ -51,7 +52,7 @@ public class UnitTestDSAHashTable
             System.out.printf("%s: %s\n", keys[i], table.get(keys[i]).toString());
         }
 
-        System.out.printf("\nLoad factor: %.2f - Size: %d\n", table.getLoadFactor());
+        System.out.printf("\nLoad factor: %.2f - Size: %d\n", table.getLoadFactor(), table.getTableSize());
 
         System.out.printf("\nRemoving the first 2 keys: \n");
         for (int i = 0; i < keys.length - 3; i++)
@@ -60,11 +61,59 @@ public class UnitTestDSAHashTable
             table.removeKey(keys[i]);
             System.out.println("\nTable's content after removing " + keys[i]);
             table.display();
-            System.out.printf("Load factor: %.2f - Size: %d\n\n", table.getLoadFactor());
+            System.out.printf("Load factor: %.2f - Size: %d\n\n", table.getLoadFactor(), table.getTableSize());
         }
 
         System.out.println("Has key " + keys[4] + "? " + table.hasKey(keys[4]));
         System.out.println("Has key " + keys[1] + "? " + table.hasKey(keys[1]));
         System.out.println("Has key " + keys[0] + "? " + table.hasKey(keys[0]));
+
+        System.out.println("\nIterating the values left in the table (expected 3, 4, 5 in any order):");
+        for (Object item : table)
+        {
+            System.out.print(item + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nAdding and removing 1000 keys one at a time (the size should not change):");
+        int sizeBefore = table.getTableSize();
+        for (int i = 0; i < 1000; i++)
+        {
+            table.put("temp" + i, i);
+            table.removeKey("temp" + i);
+        }
+        System.out.printf("Size before: %d - Size after: %d\n", sizeBefore, table.getTableSize());
+        System.out.println("Has key " + keys[4] + "? " + table.hasKey(keys[4]));
+
+        System.out.println("\nMaking a table for 1000 entries then putting 1000 keys (the size should not change):");
+        DSAHashTable presized = DSAHashTable.withExpectedEntries(1000);
+        sizeBefore = presized.getTableSize();
+        for (int i = 0; i < 1000; i++)
+        {
+            presized.put("key" + i, i);
+        }
+        System.out.printf("Size before: %d - Size after: %d\n", sizeBefore, presized.getTableSize());
+
+        System.out.println("\nMaking room for 5000 entries in the same table:");
+        presized.ensureCapacity(5000);
+        System.out.printf("Size: Expected: %d - Actual: %d\n", DSAHashTable.tableSizeFor(5000), presized.getTableSize());
+        System.out.println("Value of key999: Expected: 999 - Actual: " + presized.get("key999"));
+
+        System.out.println("\nputIfAbsent and getOrNull:");
+        System.out.println("putIfAbsent(key1, 100): Expected: 1 - Actual: " + presized.putIfAbsent("key1", 100));
+        System.out.println("putIfAbsent(new, 100): Expected: null - Actual: " + presized.putIfAbsent("new", 100));
+        System.out.println("getOrNull(new): Expected: 100 - Actual: " + presized.getOrNull("new"));
+        System.out.println("getOrNull(missing): Expected: null - Actual: " + presized.getOrNull("missing"));
+
+        // "Aa" and "BB" have the same String.hashCode(), so only equals() tells them apart
+        System.out.println("\nKeys with the same hash code:");
+        DSAHashTable colliding = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE);
+        colliding.put("Aa", 1);
+        colliding.put("BB", 2);
+        System.out.println("Value of Aa: Expected: 1 - Actual: " + colliding.get("Aa"));
+        System.out.println("Value of BB: Expected: 2 - Actual: " + colliding.get("BB"));
+        colliding.removeKey("Aa");
+        System.out.println("Has key Aa after removing it: Expected: false - Actual: " + colliding.hasKey("Aa"));
+        System.out.println("Value of BB after removing Aa: Expected: 2 - Actual: " + colliding.get("BB"));
     }
 }
@@ -127,6 +127,63 @@ public class UnitTestDSAHeap
             System.out.println(e.getMessage() + "\n");
         }
 
+        System.out.println("Growing a 4-ary heap from size 1 while adding 100 numbers (0 to 99, shuffled)");
+        DSAHeap bigHeap = new DSAHeap(1, 4, true);
+        for (int i = 0; i < 100; i++)
+        {
+            int num = (i * 37) % 100;  // 37 and 100 have no common factor, so every number comes up once
+            bigHeap.add(num, num);
+        }
+        System.out.println("Count - Expected: 100 - Actual: " + bigHeap.count());
+        System.out.println("Full - Expected: false - Actual: " + bigHeap.isFull());
+        boolean inOrder = true;
+        for (int i = 99; i >= 0; i--)
+        {
+            inOrder = inOrder && ((Integer) bigHeap.remove() == i);
+        }
+        System.out.println("Removed in descending order - Expected: true - Actual: " + inOrder);
+
+        System.out.println("\nBuilding a 3-ary heap from the 5 values at once");
+        DSAHeap builtHeap = new DSAHeap(values.length, 3, false);
+        builtHeap.buildFrom(priority, values, values.length);
+        System.out.println("Expected: JoJo Suzi Hank Tom John");
+        System.out.print("Actual:   ");
+        while (!builtHeap.isEmpty())
+        {
+            System.out.print(builtHeap.remove() + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nSorting 5 3 8 1 9 2 with a heap");
+        int[] small = {5, 3, 8, 1, 9, 2};
+        heap.sort(small);
+        System.out.println("Expected: 1 2 3 5 8 9");
+        System.out.print("Actual:   ");
+        for (int i = 0; i < small.length; i++)
+        {
+            System.out.print(small[i] + " ");
+        }
+        System.out.println("\n");
+
+        System.out.println("Sorting 1000 shuffled numbers (each of 0 to 499 twice) in place");
+        int[] big = new int[1000];
+        int[] sameArray = big;
+        for (int i = 0; i < big.length; i++)
+        {
+            big[i] = ((i * 37) % 1000) / 2;  // 37 and 1000 have no common factor, so every pair comes up once
+        }
+        heap.sort(big);
+        boolean ascending = sameArray == big;
+        for (int i = 0; i < big.length; i++)
+        {
+            ascending = ascending && sameArray[i] == i / 2;
+        }
+        System.out.println("Sorted ascending in the same array - Expected: true - Actual: " + ascending);
+        if (!ascending)
+        {
+            throw new IllegalStateException("Sorting in place is wrong.");
+        }
+
         System.out.println("\nReads and sorts the students ID from input7000.csv...\n");
         int[] arr = readFile("input7000.csv");
         heap.sort(arr);
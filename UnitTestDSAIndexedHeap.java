@@ -0,0 +1,117 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAIndexedHeap.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAIndexedHeap class
+ */
+
+import java.util.Random;
+
+public class UnitTestDSAIndexedHeap
+{
+    public static void main(String[] args)
+    {
+        String[] names = {"John", "Sara", "Mike", "Matthew", "Jack"};
+        int[] priority = {1, 2, 3, 4, 5};
+        Object[] handles = new Object[names.length];
+        DSAIndexedHeap heap = new DSAIndexedHeap();
+
+        System.out.println("\nAdding the following values along with their priorities:");
+        for (int i = 0; i < names.length; i++)
+        {
+            System.out.println(names[i] + " - " + priority[i]);
+            handles[i] = heap.add(priority[i], names[i]);
+        }
+        System.out.println("Top - Expected: Jack - Actual: " + heap.peek());
+
+        System.out.println("\nIncreasing John to 10");
+        heap.increaseKey(handles[0], 10);
+        System.out.println("Top - Expected: John - Actual: " + heap.peek());
+        System.out.println("Priority - Expected: 10 - Actual: " + heap.getPriority(handles[0]));
+
+        System.out.println("\nDecreasing John to 0 and Jack to 3");
+        heap.decreaseKey(handles[0], 0);
+        heap.decreaseKey(handles[4], 3);
+        System.out.println("Top - Expected: Matthew - Actual: " + heap.peek());
+
+        System.out.println("\nRemoving Mike by his handle");
+        heap.remove(handles[2]);
+        System.out.println("Count - Expected: 4 - Actual: " + heap.count());
+
+        System.out.println("\nRemoving the content of the heap one by one");
+        System.out.println("Expected: Matthew Jack Sara John");
+        System.out.print("Actual:   ");
+        while (!heap.isEmpty())
+        {
+            System.out.print(heap.remove() + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nTry using a removed handle");
+        try
+        {
+            heap.increaseKey(handles[2], 20);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nTry increasing to a lower priority");
+        try
+        {
+            Object handle = heap.add(5, "Anna");
+            heap.increaseKey(handle, 4);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        // Many random updates, then check that the items come out in order of their final priority
+        System.out.println("\nAdding 1000 items to a 4-ary heap and changing the priority of each one 10 times");
+        System.out.println("Then removing every third item by its handle");
+        DSAIndexedHeap bigHeap = new DSAIndexedHeap(4);
+        Object[] bigHandles = new Object[1000];
+        int[] finalPriority = new int[1000];
+        Random random = new Random(1);
+        for (int i = 0; i < bigHandles.length; i++)
+        {
+            finalPriority[i] = random.nextInt(1000);
+            bigHandles[i] = bigHeap.add(finalPriority[i], i);
+        }
+        for (int round = 0; round < 10; round++)
+        {
+            for (int i = 0; i < bigHandles.length; i++)
+            {
+                int newPriority = random.nextInt(1000);
+                if (newPriority >= finalPriority[i])
+                {
+                    bigHeap.increaseKey(bigHandles[i], newPriority);
+                }
+                else
+                {
+                    bigHeap.decreaseKey(bigHandles[i], newPriority);
+                }
+                finalPriority[i] = newPriority;
+            }
+        }
+
+        for (int i = 0; i < bigHandles.length; i += 3)
+        {
+            bigHeap.remove(bigHandles[i]);
+        }
+        System.out.println("Count - Expected: 666 - Actual: " + bigHeap.count());
+
+        boolean inOrder = true;
+        int previous = Integer.MAX_VALUE;
+        while (!bigHeap.isEmpty())
+        {
+            int current = finalPriority[(Integer) bigHeap.remove()];
+            inOrder = inOrder && current <= previous;
+            previous = current;
+        }
+        System.out.println("Removed in descending order - Expected: true - Actual: " + inOrder);
+    }
+}
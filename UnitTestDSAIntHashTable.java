@@ -0,0 +1,88 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAIntHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAIntHashTable class
+ */
+public class UnitTestDSAIntHashTable
+{
+
+    public static void main(String[] args)
+    {
+        DSAIntHashTable table = new DSAIntHashTable(5);
+        String[] names = {"John", "Sara", "Mike", "Matthew", "Jack"};
+        int[] ids = {0, 1, 2, 42, 1000};
+
+        System.out.println("\nPutting 5 IDs and names into the table...");
+        for (int i = 0; i < ids.length; i++)
+        {
+            table.put(ids[i], names[i]);
+        }
+        System.out.printf("Load factor: %.2f - Size: %d\n", table.getLoadFactor(), table.getTableSize());
+
+        System.out.println("\nTry inserting a duplicate ID");
+        try
+        {
+            table.put(ids[0], names[0]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nFind every ID in the table and display the name found:");
+        for (int i = 0; i < ids.length; i++)
+        {
+            System.out.printf("%d: Expected: %s - Actual: %s\n", ids[i], names[i], table.get(ids[i]));
+        }
+
+        System.out.println("\nRemoving the first 2 IDs");
+        table.removeKey(ids[0]);
+        table.removeKey(ids[1]);
+        System.out.println("Has ID " + ids[0] + "? Expected: false - Actual: " + table.hasKey(ids[0]));
+        System.out.println("Has ID " + ids[4] + "? Expected: true - Actual: " + table.hasKey(ids[4]));
+
+        System.out.println("\nTry getting a removed ID");
+        try
+        {
+            table.get(ids[0]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nIterating the names left in the table (expected Mike, Matthew, Jack in any order):");
+        for (Object item : table)
+        {
+            System.out.print(item + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nAdding 10000 IDs then removing them again");
+        for (int i = 2000; i < 12000; i++)
+        {
+            table.put(i, Integer.toString(i));
+        }
+        System.out.printf("Size after adding: %d\n", table.getTableSize());
+        System.out.println("Value of 11999 after growing: Expected: 11999 - Actual: " + table.get(11999));
+        for (int i = 2000; i < 12000; i++)
+        {
+            table.removeKey(i);
+        }
+        System.out.printf("Size after removing: %d\n", table.getTableSize());
+        System.out.println("Value of " + ids[3] + " after shrinking: Expected: " + names[3] + " - Actual: " + table.get(ids[3]));
+
+        System.out.println("\nputIfAbsent and getOrNull:");
+        System.out.println("putIfAbsent(42, Tom): Expected: Matthew - Actual: " + table.putIfAbsent(42, "Tom"));
+        System.out.println("putIfAbsent(7, Tom): Expected: null - Actual: " + table.putIfAbsent(7, "Tom"));
+        System.out.println("getOrNull(7): Expected: Tom - Actual: " + table.getOrNull(7));
+        System.out.println("getOrNull(8): Expected: null - Actual: " + table.getOrNull(8));
+
+        System.out.println("\nremove:");
+        System.out.println("remove(7): Expected: Tom - Actual: " + table.remove(7));
+        System.out.println("remove(7) again is null: Expected: true - Actual: " + (table.remove(7) == null));
+        System.out.println("Has ID 7 after remove(7): Expected: false - Actual: " + table.hasKey(7));
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAIntHeap.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAIntHeap class
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class UnitTestDSAIntHeap
+{
+    public static void main(String[] args)
+    {
+        int[] ids = {10, 11, 12, 13, 14};
+        int[] priority = {3, 1, 5, 2, 4};
+
+        System.out.println("\nAdding IDs 10 to 14 with priorities 3 1 5 2 4 to a heap with size 2 (it has to grow)");
+        DSAIntHeap heap = new DSAIntHeap(2, 2);
+        for (int i = 0; i < ids.length; i++)
+        {
+            heap.add(priority[i], ids[i]);
+        }
+        System.out.println("Count - Expected: 5 - Actual: " + heap.count());
+        System.out.println("Top - Expected: 12 (priority 5) - Actual: " + heap.peek() + " (priority " + heap.peekPriority() + ")");
+
+        System.out.println("\nRemoving the content of the heap one by one");
+        System.out.println("Expected: 12 14 10 13 11");
+        System.out.print("Actual:   ");
+        while (!heap.isEmpty())
+        {
+            System.out.print(heap.remove() + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nBuilding a 4-ary heap from the same items at once");
+        DSAIntHeap builtHeap = new DSAIntHeap(0, 4);
+        builtHeap.buildFrom(priority, ids, ids.length);
+        System.out.println("Expected: 12 14 10 13 11");
+        System.out.print("Actual:   ");
+        while (!builtHeap.isEmpty())
+        {
+            System.out.print(builtHeap.remove() + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nTry removing when the heap is empty");
+        try
+        {
+            builtHeap.remove();
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nSorting 5 3 8 1 9 2 3");
+        int[] small = {5, 3, 8, 1, 9, 2, 3};
+        DSAIntHeap.sort(small);
+        System.out.println("Expected: [1, 2, 3, 3, 5, 8, 9]");
+        System.out.println("Actual:   " + Arrays.toString(small));
+
+        System.out.println("\nSorting 10000 random numbers and comparing with Arrays.sort()");
+        Random random = new Random(1);
+        int[] big = new int[10000];
+        for (int i = 0; i < big.length; i++)
+        {
+            big[i] = random.nextInt();
+        }
+        int[] expected = big.clone();
+        Arrays.sort(expected);
+        DSAIntHeap.sort(big);
+        System.out.println("Same - Expected: true - Actual: " + Arrays.equals(expected, big));
+
+        System.out.println("\nSorting an empty array and an array with one number");
+        int[] empty = {};
+        int[] one = {7};
+        DSAIntHeap.sort(empty);
+        DSAIntHeap.sort(one);
+        System.out.println("Expected: [] [7]");
+        System.out.println("Actual:   " + Arrays.toString(empty) + " " + Arrays.toString(one));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAIntIntHashTable.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAIntIntHashTable class
+ */
+public class UnitTestDSAIntIntHashTable
+{
+
+    public static void main(String[] args)
+    {
+        DSAIntIntHashTable table = new DSAIntIntHashTable(DSAHashTable.DEFAULT_TABLE_SIZE);
+        int testNum = 100;
+
+        System.out.printf("\nPutting %d keys into the table (the value is the key squared)\n", testNum);
+        for (int i = 0; i < testNum; i++)
+        {
+            table.put(i, i * i);
+        }
+        System.out.printf("Load factor: %.2f - Size: %d\n", table.getLoadFactor(), table.getTableSize());
+        System.out.println("Value of 7: Expected: 49 - Actual: " + table.get(7));
+        System.out.println("Value of 99: Expected: 9801 - Actual: " + table.get(99));
+
+        System.out.println("\nTry inserting a duplicate key");
+        try
+        {
+            table.put(7, 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nRemoving all the even keys");
+        for (int i = 0; i < testNum; i += 2)
+        {
+            table.removeKey(i);
+        }
+        System.out.println("Has key 8? Expected: false - Actual: " + table.hasKey(8));
+        System.out.println("Has key 9? Expected: true - Actual: " + table.hasKey(9));
+        System.out.println("Value of 9: Expected: 81 - Actual: " + table.get(9));
+        System.out.println("Value of 99 after shrinking: Expected: 9801 - Actual: " + table.get(99));
+
+        System.out.println("\nputIfAbsent and remove:");
+        System.out.println("putIfAbsent(9, 0): Expected: false - Actual: " + table.putIfAbsent(9, 0));
+        System.out.println("Value of 9 after putIfAbsent(9, 0): Expected: 81 - Actual: " + table.get(9));
+        System.out.println("putIfAbsent(8, 64): Expected: true - Actual: " + table.putIfAbsent(8, 64));
+        System.out.println("remove(8): Expected: 64 - Actual: " + table.remove(8));
+        System.out.println("Has key 8 after remove(8): Expected: false - Actual: " + table.hasKey(8));
+        System.out.println("replace(9, 0): Expected: 81 - Actual: " + table.replace(9, 0));
+        System.out.println("Value of 9: Expected: 0 - Actual: " + table.get(9));
+
+        System.out.println("\nTry removing a key that is not in the table");
+        try
+        {
+            table.removeKey(8);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nNegative keys work as well");
+        table.put(-5, 25);
+        System.out.println("Value of -5: Expected: 25 - Actual: " + table.get(-5));
+    }
+}
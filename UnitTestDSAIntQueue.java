@@ -0,0 +1,72 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAIntQueue.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAIntQueue class
+ */
+public class UnitTestDSAIntQueue
+{
+    public static void main(String[] args)
+    {
+        int capac = 10;
+        System.out.println("\nTesting inserting 10 numbers into a queue with capacity 4 (the queue has to grow)");
+        DSAIntQueue queue = new DSAIntQueue(4);
+        for (int i = 0; i < capac; i++)
+        {
+            queue.enqueue(i);
+        }
+
+        System.out.println("\nChecking the size of the queue");
+        System.out.println("Expected: " + capac + " = Actual: " + queue.count());
+
+        System.out.println("\nGetting 5 numbers out of the queue");
+        for (int i = 0; i < capac / 2; i++)
+        {
+            System.out.println("Peek - Expected: " + i + " = Actual: " + queue.peek());
+            System.out.println("Dequeue - Expected: " + i + " = Actual: " + queue.dequeue());
+        }
+
+        // The back of the queue wraps around to the start of the array
+        System.out.println("\nInserting 10 to 15 (wrapping around), then emptying the queue");
+        for (int i = capac; i < capac + 6; i++)
+        {
+            queue.enqueue(i);
+        }
+        System.out.println("Expected: 5 6 7 8 9 10 11 12 13 14 15");
+        System.out.print("Actual:   ");
+        while (!queue.isEmpty())
+        {
+            System.out.print(queue.dequeue() + " ");
+        }
+        System.out.println();
+
+        System.out.println("\nClearing a queue and using it again");
+        queue.enqueue(1);
+        queue.enqueue(2);
+        queue.clear();
+        System.out.println("Empty - Expected: true = Actual: " + queue.isEmpty());
+        queue.enqueue(3);
+        System.out.println("Dequeue - Expected: 3 = Actual: " + queue.dequeue());
+
+        System.out.println("\nCALLING dequeue() WITH EMPTY QUEUE: ");
+        try
+        {
+            queue.dequeue();
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println("Actual message: " + e.getMessage());
+        }
+
+        System.out.println("\nCALLING peek() WITH EMPTY QUEUE: ");
+        try
+        {
+            queue.peek();
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println("Actual message: " + e.getMessage());
+        }
+    }
+}
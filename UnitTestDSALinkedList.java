@@ -107,6 +107,32 @@ public class UnitTestDSALinkedList
             System.out.println(e.getMessage());
         }
 
+        // The items are stored in chunks, so use enough items to fill several chunks from both ends
+        int bigNum = 1000;
+        System.out.printf("\nInserting %d numbers at each end, then removing them from the other end\n", bigNum);
+        for (int i = 0; i < bigNum; i++)
+        {
+            list.insertFirst(-i - 1);
+            list.insertLast(i);
+        }
+        System.out.println("Count - Expected = " + (2 * bigNum) + ", Actual = " + list.count());
+
+        boolean inOrder = true;
+        int expected = -bigNum;
+        for (Object item : list)
+        {
+            inOrder = inOrder && ((Integer) item == expected);
+            expected++;
+        }
+        System.out.println("Iterating in order - Expected = true, Actual = " + inOrder);
 
+        for (int i = 0; i < bigNum; i++)
+        {
+            inOrder = inOrder && ((Integer) list.removeLast() == bigNum - i - 1);
+            inOrder = inOrder && ((Integer) list.removeFirst() == -bigNum + i);
+        }
+        System.out.println("Removing in order - Expected = true, Actual = " + inOrder);
+        System.out.println("isEmtpy - Expected = true, Actual = " + list.isEmpty());
+        System.out.println("Count - Expected = 0, Actual = " + list.count());
     }
 }
@@ -0,0 +1,84 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSAOrderedSet.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSAOrderedSet class
+ */
+public class UnitTestDSAOrderedSet
+{
+    public static void main(String[] args)
+    {
+        DSAOrderedSet set = new DSAOrderedSet();
+        int testNum = 20;
+
+        // Adding
+        System.out.printf("\nAdding %d numbers into the set (key is the number itself)\n", testNum);
+        for (int i = 0; i < testNum; i++)
+        {
+            set.add(i, i);
+        }
+        System.out.printf("Expected count: %d\nActual count: %d\n", testNum, set.count());
+
+        System.out.println("\nTry adding a duplicate key");
+        try
+        {
+            set.add(0, 0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        // Removing
+        System.out.println("\nRemoving all the odd numbers");
+        for (int i = 1; i < testNum; i += 2)
+        {
+            set.remove(i);
+        }
+
+        System.out.print("Expected Sequence: ");
+        for (int i = 0; i < testNum; i += 2)
+        {
+            System.out.print(i + " - ");
+        }
+        System.out.println();
+        System.out.print("Actual Sequence: ");
+        for (Object item : set)
+        {
+            System.out.print(item + " - ");
+        }
+        System.out.println();
+
+        System.out.println("\nContains 2? Expected: true - Actual: " + set.contains(2));
+        System.out.println("Contains 3? Expected: false - Actual: " + set.contains(3));
+
+        System.out.println("\nTry removing a key that is not in the set");
+        try
+        {
+            set.remove(3);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        // Adding after removing keeps the insertion order
+        System.out.println("\nAdding 3 back, it should be at the end");
+        set.add(3, 3);
+        System.out.print("Actual Sequence: ");
+        for (Object item : set)
+        {
+            System.out.print(item + " - ");
+        }
+        System.out.println();
+
+        System.out.println("\nRemoving everything");
+        Object[] items = set.toArray();
+        for (int i = 0; i < items.length; i++)
+        {
+            set.remove((Integer) items[i]);
+        }
+        System.out.println("Empty? Expected: true - Actual: " + set.isEmpty());
+    }
+}
@@ -80,5 +80,27 @@ public class UnitTestDSAQueue
         {
             System.out.println("Actual message: " + e.getMessage());
         }
+
+        // Testing the circular array when the items wrap around the end and the array grows
+        System.out.println("\nTesting wrapping around and growing (capacity 4, 3 in, 2 out, 6 in)");
+        queue = new DSAQueue(4);
+        for (int i = 0; i < 3; i++)
+        {
+            queue.enqueue(i);
+        }
+        queue.dequeue();
+        queue.dequeue();
+        for (int i = 3; i < 9; i++)
+        {
+            queue.enqueue(i);
+        }
+        System.out.println("Expected: 2 3 4 5 6 7 8");
+        System.out.print("Actual:   ");
+        for (Object item : queue)
+        {
+            System.out.print(item + " ");
+        }
+        System.out.println("\nCount - Expected: 7 = Actual: " + queue.count());
+        System.out.println("Dequeue - Expected: 2 = Actual: " + queue.dequeue());
     }
 }
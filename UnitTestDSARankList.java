@@ -0,0 +1,95 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSARankList.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSARankList class
+ */
+public class UnitTestDSARankList
+{
+    private static void printRanking(DSARankList ranking, Object[] handles, String[] names)
+    {
+        System.out.print("Ranking: ");
+        for (Object item : ranking)
+        {
+            System.out.print(item + " ");
+        }
+        System.out.println();
+
+        for (int i = 0; i < handles.length; i++)
+        {
+            if (handles[i] != null)
+            {
+                System.out.print(names[i] + "=" + ranking.getRank(handles[i]) + " ");
+            }
+        }
+        System.out.println();
+    }
+
+    public static void main(String[] args)
+    {
+        String[] names = {"John", "Sara", "Mike", "Matthew", "Jack"};
+        Object[] handles = new Object[names.length];
+        DSARankList ranking = new DSARankList();
+
+        System.out.println("\nAdding 5 names with rank 0");
+        for (int i = 0; i < names.length; i++)
+        {
+            handles[i] = ranking.add(names[i], 0);
+        }
+        printRanking(ranking, handles, names);
+
+        System.out.println("\nIncreasing Mike 3 times, Jack 2 times and Sara once");
+        System.out.println("Expected: Mike Jack Sara John Matthew");
+        ranking.increase(handles[2]);
+        ranking.increase(handles[2]);
+        ranking.increase(handles[2]);
+        ranking.increase(handles[4]);
+        ranking.increase(handles[4]);
+        ranking.increase(handles[1]);
+        printRanking(ranking, handles, names);
+        System.out.println("Most popular: Expected: Mike - Actual: " + ranking.peekFirst());
+
+        System.out.println("\nDecreasing Mike twice (he should be first among the people with rank 1)");
+        System.out.println("Expected: Jack Mike Sara John Matthew");
+        ranking.decrease(handles[2]);
+        ranking.decrease(handles[2]);
+        printRanking(ranking, handles, names);
+
+        System.out.println("\nTry decreasing John (rank 0)");
+        try
+        {
+            ranking.decrease(handles[0]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nRemoving Jack");
+        System.out.println("Expected: Mike Sara John Matthew");
+        ranking.remove(handles[4]);
+        handles[4] = null;
+        printRanking(ranking, handles, names);
+        System.out.println("Count: Expected: 4 - Actual: " + ranking.count());
+
+        System.out.println("\nAdding Anna with rank 5 and Tom with rank 1");
+        System.out.println("Expected: Anna Mike Sara Tom John Matthew");
+        ranking.add("Anna", 5);
+        ranking.add("Tom", 1);
+        printRanking(ranking, handles, names);
+
+        System.out.println("\nTry using a removed handle");
+        try
+        {
+            ranking.increase(ranking.add("Kevin", 0));
+            Object handle = ranking.add("Kim", 0);
+            ranking.remove(handle);
+            ranking.increase(handle);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSATablePolicy.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSATablePolicy class
+ */
+public class UnitTestDSATablePolicy
+{
+
+    public static void main(String[] args)
+    {
+        System.out.println("\nTable sizes:");
+        System.out.println("Initial size for 5: Expected: 8 - Actual: " + DSATablePolicy.initialSize(5));
+        System.out.println("Initial size for 16: Expected: 16 - Actual: " + DSATablePolicy.initialSize(16));
+        System.out.println("Size for 10 entries: Expected: 32 - Actual: " + DSATablePolicy.tableSizeFor(10));
+        System.out.println("Size for no entries: Expected: " + DSAHashTable.DEFAULT_TABLE_SIZE + " - Actual: " + DSATablePolicy.tableSizeFor(0));
+        try
+        {
+            DSATablePolicy.initialSize(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nGrowing (more than 60% full):");
+        System.out.println("Size 8 with 4 entries: Expected: 8 - Actual: " + DSATablePolicy.grownSize(4, 8));
+        System.out.println("Size 8 with 5 entries: Expected: 16 - Actual: " + DSATablePolicy.grownSize(5, 8));
+        System.out.println("Size 8 with 20 entries: Expected: 64 - Actual: " + DSATablePolicy.grownSize(20, 8));
+
+        System.out.println("\nShrinking (less than 12.5% full, back to at most 30%):");
+        System.out.println("Size 64 with 8 entries: Expected: 64 - Actual: " + DSATablePolicy.shrunkSize(8, 64));
+        System.out.println("Size 64 with 7 entries: Expected: 32 - Actual: " + DSATablePolicy.shrunkSize(7, 64));
+        System.out.println("Size 1024 with 10 entries: Expected: 64 - Actual: " + DSATablePolicy.shrunkSize(10, 1024));
+        System.out.println("Size 8 with no entries: Expected: 8 - Actual: " + DSATablePolicy.shrunkSize(0, 8));
+
+        System.out.println("\nClearing the removed slots:");
+        System.out.println("After put, 3 entries and 2 removed in 8: Expected: true - Actual: " + DSATablePolicy.needsClearAfterPut(3, 2, 8));
+        System.out.println("After put, 3 entries and 1 removed in 8: Expected: false - Actual: " + DSATablePolicy.needsClearAfterPut(3, 1, 8));
+        System.out.println("After remove, 3 removed in 8: Expected: true - Actual: " + DSATablePolicy.needsClearAfterRemove(3, 8));
+        System.out.println("After remove, 2 removed in 8: Expected: false - Actual: " + DSATablePolicy.needsClearAfterRemove(2, 8));
+
+        byte used = DSATablePolicy.USED;
+        byte removed = DSATablePolicy.FORMERLY_USED;
+        byte[] states = {used, removed, 0, used, removed, used, 0, removed};
+        System.out.println("Slot to start the walk from: Expected: 2 - Actual: " + DSATablePolicy.clearFormerlyUsed(states));
+        boolean cleared = true;
+        for (int i = 0; i < states.length; i++)
+        {
+            cleared = cleared && states[i] != removed;
+        }
+        System.out.println("No removed slots left: Expected: true - Actual: " + cleared);
+        System.out.println("Slots in use are kept: Expected: " + used + " - Actual: " + states[5]);
+
+        System.out.println("\nProbe results:");
+        System.out.println("Not found, no removed slot on the way: Expected: -7 - Actual: " + DSATablePolicy.notFound(6, -1));
+        System.out.println("Not found, removed slot 2 on the way: Expected: -3 - Actual: " + DSATablePolicy.notFound(6, 2));
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestDSATableStats.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for DSATableStats class
+ */
+public class UnitTestDSATableStats
+{
+    public static void main(String[] args)
+    {
+        DSATableStats stats = DSATableStats.forRole("Test");
+        System.out.println("\nSame statistics for the same role? Expected: true - Actual: " + (stats == DSATableStats.forRole("Test")));
+        System.out.println("Same statistics for another role? Expected: false - Actual: " + (stats == DSATableStats.forRole("Other")));
+
+        System.out.println("\nRecording 4 probes of length 1, 1, 2 and 20");
+        stats.recordProbe(1);
+        stats.recordProbe(1);
+        stats.recordProbe(2);
+        stats.recordProbe(20);
+        System.out.println("Recording 3 removed slots, then 1 reused and 2 cleared");
+        stats.recordRemovedSlot();
+        stats.recordRemovedSlot();
+        stats.recordRemovedSlot();
+        stats.recordReusedSlot();
+        stats.recordClearedSlots(2);
+        System.out.println("Recording a resize of 2 ms and a clear of 1 ms");
+        stats.recordResize(2000000);
+        stats.recordClear(1000000);
+        System.out.println("Expected: 4 probes, average 6.00, 16+: 1 (25.0%), 3 made - 1 reused - 2 cleared");
+        System.out.println(stats);
+
+        System.out.println("Statistics on? Expected: false - Actual: " + DSATableStats.isEnabled());
+        DSATableStats.enable();
+        System.out.println("Statistics on? Expected: true - Actual: " + DSATableStats.isEnabled());
+
+        System.out.println("\nPutting and removing 100 keys in a DSAHashTable (role: Test table)");
+        DSAHashTable table = new DSAHashTable(DSAHashTable.DEFAULT_TABLE_SIZE, "Test table");
+        for (int i = 0; i < 100; i++)
+        {
+            table.put("key" + i, i);
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            table.removeKey("key" + i);
+        }
+        System.out.println(DSATableStats.report());
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Author:      Khoa Nam Pham
+ * StudentID:   19305875
+ * File name:   UnitTestFileIO.java
+ * Date modified: 18/10/2026
+ * Purpose:     Unit test for FileIO class (the pipelined event reader against the sequential one)
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
+public class UnitTestFileIO
+{
+    private static final int PEOPLE_NUM = 60;
+    private static final int EVENT_NUM = 3000;  // More than PIPELINE_CAPACITY, so both queues fill up
+    private static final long SEED = 42;
+
+    // Writes a network file where each person follows each other person with a chance of 0.1
+    private static void writeNetworkFile(File file) throws IOException
+    {
+        SplittableRandom random = new SplittableRandom(SEED);
+        PrintWriter pw = new PrintWriter(file);
+        for (int i = 0; i < PEOPLE_NUM; i++)
+        {
+            pw.println("P" + i);
+        }
+        for (int i = 0; i < PEOPLE_NUM; i++)
+        {
+            for (int j = 0; j < PEOPLE_NUM; j++)
+            {
+                if (i != j && random.nextDouble() < 0.1)
+                {
+                    pw.println("P" + i + ":P" + j);
+                }
+            }
+        }
+        pw.close();
+    }
+
+    // Writes an event file with every kind of event, including events that fail and badly formatted lines
+    private static void writeEventFile(File file) throws IOException
+    {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        int added = PEOPLE_NUM;
+        PrintWriter pw = new PrintWriter(file);
+        for (int i = 0; i < EVENT_NUM; i++)
+        {
+            String one = "P" + random.nextInt(added);
+            String two = "P" + random.nextInt(added);
+            switch (random.nextInt(8))
+            {
+                case 0:
+                    pw.println("A:P" + added);
+                    added++;
+                    break;
+                case 1:
+                    pw.println("P:" + one + ":post " + i);
+                    break;
+                case 2:
+                    pw.println("P:" + one + ":clickbait " + i + ":1.5");
+                    break;
+                case 3:
+                case 4:
+                    pw.println("F:" + one + ":" + two);
+                    break;
+                case 5:
+                    pw.println("U:" + one + ":" + two);
+                    break;
+                case 6:
+                    pw.println("R:" + one);
+                    break;
+                default:
+                    pw.println("X:" + one);
+            }
+        }
+        pw.close();
+    }
+
+    // Reads the network file into a new seeded network, then reads the event file with the given reader
+    private static String readEvents(File networkFile, File eventFile, boolean pipelined)
+    {
+        Network network = new Network(0.5, 0.5);
+        network.setSeed(SEED);
+        StringWriter log = new StringWriter();
+        PrintWriter pw = new PrintWriter(log);
+        FileIO.readNetworkFile(network, networkFile.getPath(), pw);
+        if (pipelined)
+        {
+            FileIO.readEventFilePipelined(network, eventFile.getPath(), pw);
+        }
+        else
+        {
+            FileIO.readEventFile(network, eventFile.getPath(), pw);
+        }
+        FileIO.printTopStats(network, 5, pw);
+        pw.flush();
+
+        return log.toString();
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        File networkFile = File.createTempFile("UnitTestFileIO", ".net");
+        File eventFile = File.createTempFile("UnitTestFileIO", ".eve");
+        networkFile.deleteOnExit();
+        eventFile.deleteOnExit();
+        writeNetworkFile(networkFile);
+        writeEventFile(eventFile);
+
+        System.out.println("\nTesting the pipelined event reader against the sequential one\n".toUpperCase());
+        String sequentialLog = readEvents(networkFile, eventFile, false);
+        String pipelinedLog = readEvents(networkFile, eventFile, true);
+        System.out.println("Errors in the sequential log: Expected: true - Actual: " + sequentialLog.contains("!!! "));
+        System.out.println("Same log (" + sequentialLog.length() + " characters): Expected: true - Actual: " + sequentialLog.equals(pipelinedLog));
+
+        System.out.println("\nTesting a missing event file\n".toUpperCase());
+        String missing = eventFile.getPath() + ".missing";
+        for (int i = 0; i < 2; i++)
+        {
+            String message = "";
+            try
+            {
+                if (i == 0)
+                {
+                    FileIO.readEventFile(new Network(), missing, new PrintWriter(new StringWriter()));
+                }
+                else
+                {
+                    FileIO.readEventFilePipelined(new Network(), missing, new PrintWriter(new StringWriter()));
+                }
+            }
+            catch (IllegalArgumentException e)
+            {
+                message = e.getMessage();
+            }
+            System.out.println((i == 0 ? "Sequential" : "Pipelined") + " reader error: Expected: Event file not found - Actual: " + message);
+        }
+
+        System.out.println("\nTesting an Error on the apply thread\n".toUpperCase());
+        final String path = eventFile.getPath();
+        final Throwable[] thrown = new Throwable[1];
+        // Every event that adds a person fails with an Error, the rest of the events keep the queue full
+        final Network failing = new Network()
+        {
+            public void addPerson(String name)
+            {
+                throw new StackOverflowError("Adding " + name);
+            }
+        };
+        Thread caller = new Thread()
+        {
+            public void run()
+            {
+                try
+                {
+                    FileIO.readEventFilePipelined(failing, path, new PrintWriter(new StringWriter()));
+                }
+                catch (Throwable e)
+                {
+                    thrown[0] = e;
+                }
+            }
+        };
+        caller.setDaemon(true);  // Do not keep the test running if the reader never returns
+        caller.start();
+        try
+        {
+            caller.join(10000);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Pipelined reader returned: Expected: false - Actual: " + caller.isAlive());
+        System.out.println("Error passed on to the caller: Expected: true - Actual: " + (thrown[0] instanceof StackOverflowError));
+    }
+}
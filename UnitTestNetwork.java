@@ -5,6 +5,11 @@
  * Date modified: 22/10/2019
  * Purpose:     Unit test for Network class
  */
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
 public class UnitTestNetwork
 {
     private int peopleNum = 5;
@@ -157,6 +162,280 @@ public class UnitTestNetwork
         }
     }
 
+    private void testTopStats()
+    {
+        try
+        {
+            System.out.println("\nTesting displaying the top 2 people and posts\n".toUpperCase());
+            System.out.println(network.displayTopStats(2));
+            System.out.println("Most popular person: " + network.mostPopPerson().getName());
+            System.out.println("Most popular post: " + network.mostPopPost().toString());
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+
+        System.out.println("\nTry asking for the top 0 people");
+        try
+        {
+            network.topPeople(0);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    // The names (or contents) of the items in a queue of people (or posts), separated by spaces
+    private static String namesOf(DSAQueue queue)
+    {
+        String str = "";
+        for (Object item : queue)
+        {
+            if (!str.equals(""))
+            {
+                str += " ";
+            }
+            str += (item instanceof Person) ? ((Person) item).getName() : ((Post) item).getContent();
+        }
+
+        return str;
+    }
+
+    /**
+     * The popularity ranking is updated on every follow/unfollow/remove, so check it after each kind of change.
+     * Ties: the people keep the order they were added in, a person who moves up to a number of
+     * followers goes after the people already there and a person who moves down goes before them.
+     */
+    private void testPeopleRanking()
+    {
+        System.out.println("\nTesting the popularity ranking after following, unfollowing and removing\n".toUpperCase());
+        Network ranked = new Network(LIKE_PROB, FOLLOW_PROB);
+        String[] people = {"A", "B", "C", "D"};
+        for (int i = 0; i < people.length; i++)
+        {
+            ranked.addPerson(people[i]);
+        }
+        System.out.println("Most popular with no followers: Expected: A - Actual: " + ranked.mostPopPerson().getName());
+
+        // B gets 2 followers, C gets 1
+        ranked.follow("C", "B");
+        ranked.follow("D", "B");
+        ranked.follow("A", "C");
+        System.out.println("Most popular after following: Expected: B - Actual: " + ranked.mostPopPerson().getName());
+        System.out.println("Top 3 after following: Expected: B C A - Actual: " + namesOf(ranked.topPeople(3)));
+
+        // B drops to 1 follower and goes in front of C (who already had 1)
+        ranked.unfollow("D", "B");
+        System.out.println("Top 2 after unfollowing once: Expected: B C - Actual: " + namesOf(ranked.topPeople(2)));
+
+        // B drops back to 0 followers, so B goes in front of A and D
+        ranked.unfollow("C", "B");
+        System.out.println("Most popular after unfollowing twice: Expected: C - Actual: " + ranked.mostPopPerson().getName());
+        System.out.println("All people after unfollowing: Expected: C B A D - Actual: " + namesOf(ranked.getPeople()));
+
+        // Removing A takes away A's follow of C
+        ranked.follow("D", "C");
+        ranked.removePerson("A");
+        System.out.println("Most popular after removing A: Expected: C - Actual: " + ranked.mostPopPerson().getName());
+        System.out.println("Followers of C after removing A: Expected: 1 - Actual: " + ranked.findPerson("C").getFollowerCount());
+        System.out.println("All people after removing A: Expected: C B D - Actual: " + namesOf(ranked.getPeople()));
+
+        ranked.removePerson("C");
+        System.out.println("Most popular after removing C: Expected: B - Actual: " + ranked.mostPopPerson().getName());
+        System.out.println("Top 5 after removing C: Expected: B D - Actual: " + namesOf(ranked.topPeople(5)));
+    }
+
+    /**
+     * The post ranking is updated on every like and when the owner is removed, so check it after each.
+     * Ties follow the same rule as the popularity ranking (the posts keep the order they were posted in).
+     */
+    private void testPostRanking()
+    {
+        System.out.println("\nTesting the post ranking after liking and removing\n".toUpperCase());
+        Network ranked = new Network(LIKE_PROB, FOLLOW_PROB);
+        String[] people = {"A", "B", "C", "D"};
+        for (int i = 0; i < people.length; i++)
+        {
+            ranked.addPerson(people[i]);
+        }
+        System.out.println("No most popular post without posts: Expected: true - Actual: " + (ranked.mostPopPost() == null));
+
+        ranked.addPost("A", "a1");
+        ranked.addPost("B", "b1");
+        ranked.addPost("A", "a2");
+        System.out.println("Most popular post with no likes: Expected: a1 - Actual: " + ranked.mostPopPost().getContent());
+        System.out.println("All posts with no likes: Expected: a1 b1 a2 - Actual: " + namesOf(ranked.getPosts()));
+
+        Post b1 = ranked.findPerson("B").getMostLikedPost();
+        ranked.findPerson("C").likePost(b1);
+        System.out.println("Most popular post after 1 like: Expected: b1 - Actual: " + ranked.mostPopPost().getContent());
+
+        Post a2 = null;
+        for (Object item : ranked.findPerson("A").getPosts())
+        {
+            if (((Post) item).getContent().equals("a2"))
+            {
+                a2 = (Post) item;
+            }
+        }
+        ranked.findPerson("C").likePost(a2);
+        ranked.findPerson("D").likePost(a2);
+        System.out.println("Most popular post after 3 likes: Expected: a2 - Actual: " + ranked.mostPopPost().getContent());
+        System.out.println("Top 3 posts after liking: Expected: a2 b1 a1 - Actual: " + namesOf(ranked.topPosts(3)));
+
+        // Liking the same post twice does not count
+        ranked.findPerson("D").likePost(a2);
+        System.out.println("Likes of a2 after a second like by D: Expected: 2 - Actual: " + a2.getLikeCount());
+
+        // Removing A takes away A's posts
+        ranked.removePerson("A");
+        System.out.println("Most popular post after removing A: Expected: b1 - Actual: " + ranked.mostPopPost().getContent());
+        System.out.println("All posts after removing A: Expected: b1 - Actual: " + namesOf(ranked.getPosts()));
+
+        ranked.removePerson("B");
+        System.out.println("No most popular post after removing B: Expected: true - Actual: " + (ranked.mostPopPost() == null));
+    }
+
+    // Builds a network of the given size where each person follows each other person with the given chance
+    private static Network buildRandomNetwork(int size, double connectChance, long seed)
+    {
+        Network random = new Network(LIKE_PROB, FOLLOW_PROB);
+        SplittableRandom generator = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++)
+        {
+            random.addPerson("P" + i);
+        }
+        for (int i = 0; i < size; i++)
+        {
+            for (int j = 0; j < size; j++)
+            {
+                if (i != j && generator.nextDouble() < connectChance)
+                {
+                    random.follow("P" + i, "P" + j);
+                }
+            }
+        }
+
+        return random;
+    }
+
+    // Adds the posts to the network, spreads each of them and returns everything written to the log
+    private static String spreadPosts(Network network, String[] owners)
+    {
+        StringWriter log = new StringWriter();
+        PrintWriter pw = new PrintWriter(log);
+        for (int i = 0; i < owners.length; i++)
+        {
+            network.addPost(owners[i], "post " + i);
+            network.update(false, 1.0, pw);
+        }
+        pw.flush();
+
+        return log.toString();
+    }
+
+    /**
+     * The parallel spread must give exactly the same likes, follows and log as the sequential spread
+     * with the same seed, and nobody may like a post twice (be claimed by two threads).
+     * The network is big enough for each level to be split across several tasks.
+     */
+    private void testParallelSpread()
+    {
+        System.out.println("\nTesting the parallel spread against the sequential spread\n".toUpperCase());
+        int size = 500;
+        String[] owners = {"P0", "P1", "P250", "P499"};
+        Network sequential = buildRandomNetwork(size, 0.1, 1);
+        Network parallel = buildRandomNetwork(size, 0.1, 1);
+        sequential.setSeed(42);
+        parallel.setSeed(42);
+        parallel.setParallelSpread(true);
+
+        String sequentialLog = spreadPosts(sequential, owners);
+        String parallelLog = spreadPosts(parallel, owners);
+
+        int likeLines = sequentialLog.split("likes the post", -1).length - 1;
+        System.out.println("Likes in the sequential log: " + likeLines);
+        // Each like shows the post to about 50 followers, so the big levels are split into several tasks
+        System.out.println("More followers reached than one task handles: Expected: true - Actual: " + (likeLines * size * 0.1 > Network.SPREAD_GRAIN));
+        System.out.println("Same log (" + sequentialLog.length() + " characters): Expected: true - Actual: " + sequentialLog.equals(parallelLog));
+
+        int totalLikes = 0;
+        for (Object item : parallel.getPosts())
+        {
+            totalLikes += ((Post) item).getLikeCount();
+        }
+        System.out.println("Likes in the log match the likes of the posts (nobody liked twice): Expected: " + likeLines + " - Actual: " + totalLikes);
+        System.out.println("Same posts ranking: Expected: " + namesOf(sequential.getPosts()) + " - Actual: " + namesOf(parallel.getPosts()));
+
+        boolean sameFollowers = true;
+        for (int i = 0; i < size; i++)
+        {
+            Person seqPerson = sequential.findPerson("P" + i);
+            Person parPerson = parallel.findPerson("P" + i);
+            sameFollowers = sameFollowers && seqPerson.getFollowerCount() == parPerson.getFollowerCount()
+                    && seqPerson.getFollowingCount() == parPerson.getFollowingCount();
+        }
+        System.out.println("Same followers and following for everyone: Expected: true - Actual: " + sameFollowers);
+        System.out.println("Same popularity ranking: Expected: true - Actual: " + namesOf(sequential.getPeople()).equals(namesOf(parallel.getPeople())));
+    }
+
+    // The names of the people who liked the posts in a log, separated by spaces
+    private static String likersOf(String log)
+    {
+        String str = "";
+        for (String line : log.split("\n"))
+        {
+            if (line.endsWith(" likes the post"))
+            {
+                if (!str.equals(""))
+                {
+                    str += " ";
+                }
+                str += line.substring("*** ".length(), line.length() - " likes the post".length());
+            }
+        }
+
+        return str;
+    }
+
+    /**
+     * The follower snapshot used by the spreads is patched when people follow, unfollow, are added or
+     * removed between the posts (instead of being built again), so every spread must still reach exactly
+     * the current followers, in both the sequential and the parallel spread.
+     * Everybody likes every post and nobody follows back, so the likes only depend on the followers.
+     */
+    private void testSnapshotChanges()
+    {
+        System.out.println("\nTesting the spreads after following, unfollowing, adding and removing\n".toUpperCase());
+        for (int mode = 0; mode < 2; mode++)
+        {
+            Network changing = new Network(1.0, 0.0);
+            changing.setParallelSpread(mode == 1);
+            String label = (mode == 0) ? "Sequential" : "Parallel";
+            changing.addPerson("A");
+            changing.addPerson("B");
+            changing.addPerson("C");
+            changing.follow("B", "A");
+            System.out.println(label + ", B follows A: Expected: B - Actual: " + likersOf(spreadPosts(changing, new String[]{"A"})));
+
+            changing.follow("C", "A");
+            changing.unfollow("B", "A");
+            System.out.println(label + ", C follows and B unfollows A: Expected: C - Actual: "
+                    + likersOf(spreadPosts(changing, new String[]{"A"})));
+
+            changing.addPerson("D");
+            changing.addPerson("E");
+            changing.follow("D", "A");
+            changing.follow("B", "A");
+            changing.follow("E", "D");
+            changing.removePerson("C");
+            System.out.println(label + ", D and B follow A, E follows D, C removed: Expected: D B E - Actual: "
+                    + likersOf(spreadPosts(changing, new String[]{"A"})));
+        }
+    }
+
     public static void main(String[] args)
     {
         UnitTestNetwork test = new UnitTestNetwork();
@@ -166,8 +445,13 @@ public class UnitTestNetwork
         test.testAddPost();
         test.testPeopleStats();
         test.testPostStats();
+        test.testTopStats();
         test.testFindPerson();
         test.testRemovePerson();
         test.testUnfollow();
+        test.testPeopleRanking();
+        test.testPostRanking();
+        test.testParallelSpread();
+        test.testSnapshotChanges();
     }
 }
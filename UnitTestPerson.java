@@ -5,12 +5,16 @@
  * Date modified: 22/10/2019
  * Purpose:     Unit test for Person class
  */
+
+import java.util.SplittableRandom;
+
 public class UnitTestPerson
 {
     public static void main(String[] args)
     {
         int peopleNum = 5;
         double likeChance = 0.5, followChance = 0.5;
+        SplittableRandom random = new SplittableRandom(42);  // Seeded, so the test gives the same output every time
 
         String[] names = {"John", "Sara", "Matthew", "Jack", "Kevin"};
         String[] post = new String[peopleNum];
@@ -42,7 +46,7 @@ public class UnitTestPerson
         {
             for (int j = 0; j < peopleNum; j++)
             {
-                if (i != j && people[i].decideLike(likeChance))
+                if (i != j && people[i].decideLike(likeChance, random.nextDouble()))
                 {
                     System.out.printf("%s likes %s's post... \n", people[i].getName(), people[j].getName());
                     people[i].likePost((Post) people[j].getPosts().dequeue());
@@ -63,7 +67,7 @@ public class UnitTestPerson
         {
             for (int j = 0; j < peopleNum; j++)
             {
-                if (i != j && people[i].decideFollow(followChance))
+                if (i != j && people[i].decideFollow(followChance, random.nextDouble()))
                 {
                     System.out.printf("%s follows %s...\n", people[i].getName(), people[j].getName());
                     people[i].follow(people[j]);
@@ -87,7 +91,7 @@ public class UnitTestPerson
                 for (Object item : following)
                 {
                     Person person = (Person) item;
-                    if (people[i].decideFollow(followChance))
+                    if (people[i].decideFollow(followChance, random.nextDouble()))
                     {
                         System.out.printf("%s unfollows %s...\n", people[i].getName(), person.getName());
                         people[i].unfollow(person);
@@ -102,5 +106,64 @@ public class UnitTestPerson
         {
             System.out.println(people[i].toString() + "\n");
         }
+
+        // The posts of a person are kept ranked by their number of likes as they are liked
+        System.out.println("\nA new John adds 3 posts, the second one gets 3 likes and the third one gets 1".toUpperCase());
+        Person john = new Person("John");
+        Post[] johnPosts = new Post[3];
+        for (int i = 0; i < johnPosts.length; i++)
+        {
+            johnPosts[i] = new Post(Integer.toString(i + 1), "John", "John's post " + (i + 1));
+            john.addPost(johnPosts[i]);
+        }
+        people[1].likePost(johnPosts[1]);
+        people[2].likePost(johnPosts[1]);
+        people[3].likePost(johnPosts[1]);
+        people[4].likePost(johnPosts[2]);
+        System.out.println("Most liked - Expected: John's post 2 - Actual: " + john.getMostLikedPost().getContent());
+        System.out.println("Expected: John's post 2 (3) - John's post 3 (1) - John's post 1 (0)");
+        System.out.print("Actual:   ");
+        for (Object item : john.getPosts())
+        {
+            Post p = (Post) item;
+            System.out.print(p.getContent() + " (" + p.getLikeCount() + ") - ");
+        }
+        System.out.println();
+
+        System.out.println("\nTry giving John's third post to Sara");
+        try
+        {
+            people[1].addPost(johnPosts[2]);
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+        System.out.println("Sara's posts - Expected: 1 - Actual: " + people[1].getPostCount());
+
+        System.out.println("\nTry adding another post with ID 1 to John");
+        try
+        {
+            john.addPost(new Post("1", "John", "Same ID"));
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+        }
+        System.out.println("John's posts - Expected: 3 - Actual: " + john.getPostCount());
+
+        // People made outside of a network must not share an ID, the relationships are keyed by ID
+        System.out.println("\nP follows Q and R, then Q and R like P's post".toUpperCase());
+        Person p = new Person("P");
+        Person q = new Person("Q");
+        Person r = new Person("R");
+        p.follow(q);
+        p.follow(r);
+        Post pPost = new Post("1", "P", "P's post");
+        p.addPost(pPost);
+        q.likePost(pPost);
+        r.likePost(pPost);
+        System.out.println("P is following - Expected: 2 - Actual: " + p.getFollowingCount());
+        System.out.println("Likes of P's post - Expected: 2 - Actual: " + pPost.getLikeCount());
     }
 }